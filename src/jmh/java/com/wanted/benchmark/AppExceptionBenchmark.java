@@ -0,0 +1,61 @@
+package com.wanted.benchmark;
+
+import com.wanted.global.exception.AppException;
+import com.wanted.global.exception.ErrorCode;
+import com.wanted.global.exception.ErrorResponseBodies;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비즈니스 에러 1건을 던지고 처리(ErrorCode 로 응답 본문 조회)하는 비용 비교
+ * 요청 처리 중의 호출 깊이를 흉내내기 위해 depth 만큼 재귀 호출한 위치에서 예외 발생
+ * withStackTrace : 기존 방식 (-Dexception.stack-trace=true 로 별도 fork 한 JVM 에서 매번 stack trace 를 기록하는 새 예외)
+ * stackless : stack trace 없이 새 예외 생성
+ * shared : ErrorCode 별 공유 인스턴스
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AppExceptionBenchmark {
+
+    @Param({"20", "100"})
+    private int depth;
+
+    @Benchmark
+    @Fork(jvmArgsAppend = "-Dexception.stack-trace=true")
+    public byte[] withStackTrace() {
+        return throwAndHandle(depth, () -> AppException.of(ErrorCode.POST_NOT_FOUND));
+    }
+
+    @Benchmark
+    public byte[] stackless() {
+        return throwAndHandle(depth, () -> new AppException(ErrorCode.POST_NOT_FOUND));
+    }
+
+    @Benchmark
+    public byte[] shared() {
+        return throwAndHandle(depth, () -> AppException.of(ErrorCode.POST_NOT_FOUND));
+    }
+
+    private byte[] throwAndHandle(int depth, ExceptionFactory factory) {
+        try {
+            throwAt(depth, factory);
+            return null;
+        } catch (AppException e) {
+            return ErrorResponseBodies.of(e.getErrorCode());
+        }
+    }
+
+    private void throwAt(int depth, ExceptionFactory factory) {
+        if (depth == 0) {
+            throw factory.create();
+        }
+        throwAt(depth - 1, factory);
+    }
+
+    @FunctionalInterface
+    private interface ExceptionFactory {
+        AppException create();
+    }
+}
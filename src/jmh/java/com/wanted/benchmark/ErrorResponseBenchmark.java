@@ -0,0 +1,49 @@
+package com.wanted.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wanted.global.Response;
+import com.wanted.global.exception.ErrorCode;
+import com.wanted.global.exception.ErrorResponseBodies;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 401(INVALID_TOKEN) 에러 응답 1건 작성 비용 · 할당량 비교 (gc profiler 의 gc.alloc.rate.norm 확인)
+ * objectMapperPerRequest : 기존 필터 (요청마다 ObjectMapper 생성 후 문자열로 직렬화해 Writer 로 출력)
+ * sharedObjectMapper : ObjectMapper 는 재사용하고 요청마다 직렬화
+ * preRendered : 미리 직렬화된 바이트 배열을 그대로 출력
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ErrorResponseBenchmark {
+
+    private final ObjectMapper sharedMapper = new ObjectMapper();
+    private final OutputStream out = OutputStream.nullOutputStream();
+
+    @Benchmark
+    public void objectMapperPerRequest() throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        String responseBody = mapper.writeValueAsString(Response.error(ErrorCode.INVALID_TOKEN.getMessage()));
+
+        PrintWriter writer = new PrintWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(responseBody);
+        writer.flush();
+    }
+
+    @Benchmark
+    public void sharedObjectMapper() throws IOException {
+        out.write(sharedMapper.writeValueAsBytes(Response.error(ErrorCode.INVALID_TOKEN.getMessage())));
+    }
+
+    @Benchmark
+    public void preRendered() throws IOException {
+        out.write(ErrorResponseBodies.of(ErrorCode.INVALID_TOKEN));
+    }
+}
@@ -0,0 +1,69 @@
+package com.wanted.benchmark;
+
+import com.wanted.global.util.JwtProvider;
+import com.wanted.global.util.JwtUtil;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 발급 · 검증 비용 비교 : 기존 JwtUtil(jjwt, 매 호출마다 키 변환 · Mac 생성) vs JwtProvider(키 · 스레드별 Mac 재사용)
+ * 같은 크기의 입력에 대한 HMAC-SHA256 자체 비용(rawHmac)을 기준값으로 함께 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtProviderBenchmark {
+
+    private static final String SECRET_KEY = "benchmarkSecretKey";
+    private static final String EMAIL = "benchmark@email.com";
+    private static final Long USER_ID = 1L;
+
+    private JwtProvider jwtProvider;
+    private String token;
+    private Mac mac;
+    private byte[] signingInput;
+
+    @Setup
+    public void setUp() throws Exception {
+        jwtProvider = new JwtProvider(SECRET_KEY);
+        token = jwtProvider.createToken(USER_ID, EMAIL);
+
+        mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET_KEY.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        signingInput = token.substring(0, token.lastIndexOf('.')).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Benchmark
+    public String createToken_jwtUtil() {
+        return JwtUtil.createToken(USER_ID, EMAIL, SECRET_KEY);
+    }
+
+    @Benchmark
+    public String createToken_jwtProvider() {
+        return jwtProvider.createToken(USER_ID, EMAIL);
+    }
+
+    @Benchmark
+    public String verify_jwtUtil() {
+        return JwtUtil.getClaims(token, SECRET_KEY).getSubject();
+    }
+
+    @Benchmark
+    public String getUserEmail_jwtUtil() {
+        return JwtUtil.getUserEmail(token, SECRET_KEY);
+    }
+
+    @Benchmark
+    public String verify_jwtProvider() {
+        return jwtProvider.parse(token).email();
+    }
+
+    @Benchmark
+    public byte[] rawHmac() {
+        return mac.doFinal(signingInput);
+    }
+}
@@ -0,0 +1,53 @@
+package com.wanted.benchmark;
+
+import com.wanted.global.filter.VerifiedTokenCache;
+import com.wanted.global.security.AuthenticatedUser;
+import com.wanted.global.util.JwtProvider;
+import com.wanted.global.util.JwtUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 1건당 JWT 확인 비용 비교
+ * parseTwice : 기존 필터 (isExpired · getUserEmail 각각 서명 검증 · 파싱)
+ * parseOnce : 서명 검증 · 파싱 1회
+ * cached : 이미 검증된 토큰을 캐시에서 확인 (SHA-256 digest 1회)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET_KEY = "benchmarkSecretKey";
+
+    private String token;
+    private JwtProvider jwtProvider;
+    private VerifiedTokenCache tokenCache;
+
+    @Setup
+    public void setUp() {
+        token = JwtUtil.createToken(1L, "benchmark@email.com", SECRET_KEY);
+        jwtProvider = new JwtProvider(SECRET_KEY);
+        tokenCache = new VerifiedTokenCache(10_000);
+        tokenCache.getUser(token, jwtProvider::parse);
+    }
+
+    @Benchmark
+    public String parseTwice() {
+        if (JwtUtil.isExpired(token, SECRET_KEY)) {
+            return null;
+        }
+        return JwtUtil.getUserEmail(token, SECRET_KEY);
+    }
+
+    @Benchmark
+    public String parseOnce() {
+        return JwtUtil.getClaims(token, SECRET_KEY).getSubject();
+    }
+
+    @Benchmark
+    public AuthenticatedUser cached() {
+        return tokenCache.getUser(token, jwtProvider::parse);
+    }
+}
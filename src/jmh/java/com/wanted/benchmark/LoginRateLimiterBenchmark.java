@@ -0,0 +1,51 @@
+package com.wanted.benchmark;
+
+import com.wanted.global.exception.AppException;
+import com.wanted.global.ratelimit.LoginRateLimiter;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 시도 제한 확인 처리량 (여러 스레드가 서로 다른 계정 · 같은 IP 대역으로 동시에 요청)
+ * 제한에 걸린 요청도 예외를 던지고 반환되는 시간까지 포함
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class LoginRateLimiterBenchmark {
+
+    private static final int ACCOUNT_COUNT = 10_000;
+    private static final int IP_COUNT = 256;
+
+    private LoginRateLimiter loginRateLimiter;
+    private String[] emails;
+    private String[] ips;
+
+    @Setup
+    public void setUp() {
+        loginRateLimiter = new LoginRateLimiter(5, 50, Duration.ofMinutes(1), Duration.ofMinutes(10), 100_000);
+        emails = new String[ACCOUNT_COUNT];
+        for (int i = 0; i < ACCOUNT_COUNT; i++) {
+            emails[i] = "user" + i + "@email.com";
+        }
+        ips = new String[IP_COUNT];
+        for (int i = 0; i < IP_COUNT; i++) {
+            ips[i] = "10.0.0." + i;
+        }
+    }
+
+    @Benchmark
+    public boolean check() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        try {
+            loginRateLimiter.check(emails[random.nextInt(ACCOUNT_COUNT)], ips[random.nextInt(IP_COUNT)]);
+            return true;
+        } catch (AppException e) {
+            return false;
+        }
+    }
+}
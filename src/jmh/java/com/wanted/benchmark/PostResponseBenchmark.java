@@ -0,0 +1,70 @@
+package com.wanted.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wanted.domain.post.Post;
+import com.wanted.domain.post.dto.PostGetResponse;
+import com.wanted.domain.user.User;
+import com.wanted.global.Response;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 조회 응답 생성 · 직렬화 비용
+ * from : 엔티티에서 응답 DTO 변환 (조회 쿼리는 DTO 로 바로 조회하므로 작성 · 벌크 응답 경로에서 사용)
+ * serializePost : 게시글 단건 응답(Response) JSON 직렬화
+ * serializePage : 게시글 페이지 응답(Response<Page>) JSON 직렬화, 스프링 부트 기본 설정과 같이 ObjectMapper 재사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PostResponseBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Post post;
+    private Response<PostGetResponse> postResponse;
+    private Response<Page<PostGetResponse>> pageResponse;
+
+    @Setup
+    public void setUp() {
+        User author = User.builder()
+                .email("benchmark@email.com")
+                .password("password")
+                .build();
+        post = Post.builder()
+                .user(author)
+                .title("benchmark title")
+                .body("benchmark body ".repeat(20))
+                .build();
+
+        List<PostGetResponse> content = new ArrayList<>(PAGE_SIZE);
+        for (long postId = 1; postId <= PAGE_SIZE; postId++) {
+            content.add(new PostGetResponse(postId, author.getEmail(), "benchmark title", "benchmark body ".repeat(20), 0L));
+        }
+        postResponse = Response.success(content.get(0));
+        pageResponse = Response.success(new PageImpl<>(content, PageRequest.of(0, PAGE_SIZE), 1000));
+    }
+
+    @Benchmark
+    public PostGetResponse from() {
+        return PostGetResponse.from(post);
+    }
+
+    @Benchmark
+    public byte[] serializePost() throws Exception {
+        return objectMapper.writeValueAsBytes(postResponse);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return objectMapper.writeValueAsBytes(pageResponse);
+    }
+}
@@ -0,0 +1,147 @@
+package com.wanted.benchmark;
+
+import com.wanted.domain.user.dto.UserCreateRequest;
+import com.wanted.domain.user.dto.UserLoginRequest;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원가입 · 로그인 요청 1건의 유효성 검증 + 컨트롤러 메서드 호출 비용 비교 (검증 성공 요청 기준)
+ * bindingCheckAop : 기존 방식 (BindingResult 인자를 받고, @BindingCheck AOP 프록시의 advice 가 인자를 순회하며 검사)
+ * direct : 변경 후 방식 (@RequestBody 인자 변환 시 검증하고 실패 시 예외, 컨트롤러 메서드는 프록시 없이 호출)
+ * 두 방식 모두 Spring MVC 가 요청마다 BindingResult 를 생성하므로 동일하게 포함
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RequestValidationBenchmark {
+
+    private final UserCreateRequest createRequest = UserCreateRequest.builder()
+            .email("email@email.com")
+            .password("password")
+            .build();
+    private final UserLoginRequest loginRequest = UserLoginRequest.builder()
+            .email("email@email.com")
+            .password("password")
+            .build();
+
+    private ValidatorFactory validatorFactory;
+    private SpringValidatorAdapter validator;
+    private BindingCheckController proxiedController;
+    private ValidatedController validatedController;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = new SpringValidatorAdapter(validatorFactory.getValidator());
+
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new BindingCheckController());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new BindingCheckAop());
+        proxiedController = proxyFactory.getProxy();
+
+        validatedController = new ValidatedController();
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Object create_bindingCheckAop() {
+        return proxiedController.create(createRequest, validate(createRequest));
+    }
+
+    @Benchmark
+    public Object create_direct() {
+        validateOrThrow(createRequest);
+        return validatedController.create(createRequest);
+    }
+
+    @Benchmark
+    public Object login_bindingCheckAop() {
+        return proxiedController.login(loginRequest, validate(loginRequest));
+    }
+
+    @Benchmark
+    public Object login_direct() {
+        validateOrThrow(loginRequest);
+        return validatedController.login(loginRequest);
+    }
+
+    private BindingResult validate(Object target) {
+        BindingResult bindingResult = new BeanPropertyBindingResult(target, "requestDto");
+        validator.validate(target, bindingResult);
+        return bindingResult;
+    }
+
+    private void validateOrThrow(Object target) {
+        if (validate(target).hasErrors()) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.METHOD)
+    public @interface BindingCheck {
+
+    }
+
+    /**
+     * 제거된 BindingCheckAop 와 동일한 advice
+     */
+    @Aspect
+    public static class BindingCheckAop {
+
+        @Before(value = "@annotation(com.wanted.benchmark.RequestValidationBenchmark$BindingCheck)")
+        public void before(JoinPoint joinPoint) {
+            for (Object arg : joinPoint.getArgs()) {
+                if (arg instanceof BindingResult) {
+                    BindingResult br = (BindingResult) arg;
+                    if (br.hasErrors()) {
+                        throw new IllegalArgumentException(br.getFieldError().getDefaultMessage());
+                    }
+                }
+            }
+        }
+    }
+
+    public static class BindingCheckController {
+
+        @BindingCheck
+        public Object create(UserCreateRequest requestDto, BindingResult br) {
+            return requestDto;
+        }
+
+        @BindingCheck
+        public Object login(UserLoginRequest requestDto, BindingResult br) {
+            return requestDto;
+        }
+    }
+
+    public static class ValidatedController {
+
+        public Object create(UserCreateRequest requestDto) {
+            return requestDto;
+        }
+
+        public Object login(UserLoginRequest requestDto) {
+            return requestDto;
+        }
+    }
+}
@@ -1,15 +1,31 @@
 package com.wanted.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.wanted.domain.post.dto.*;
 import com.wanted.global.Response;
+import com.wanted.global.annotation.StatementBudget;
+import com.wanted.global.ratelimit.ExportConcurrencyLimiter;
+import com.wanted.global.security.AuthenticatedUser;
 import com.wanted.global.specification.PostApiSpecification;
+import com.wanted.global.util.ETagUtil;
 import com.wanted.service.PostService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import static com.wanted.global.constants.PageConstants.DEFAULT_CURSOR_PAGE_SIZE;
+import static com.wanted.global.constants.PostConstants.EXPORT_FLUSH_INTERVAL;
 
 @RestController
 @RequiredArgsConstructor
@@ -17,43 +33,139 @@ import org.springframework.web.bind.annotation.*;
 public class PostApiController implements PostApiSpecification {
 
     private final PostService postService;
+    private final ObjectMapper objectMapper;
+    private final ExportConcurrencyLimiter exportConcurrencyLimiter;
 
+    // 이전 토큰의 회원 조회 · insert
     @PostMapping
+    @StatementBudget(2)
     public ResponseEntity<Response<PostCreateResponse>> create(@RequestBody PostCreateRequest requestDto, Authentication authentication) {
 
-        PostCreateResponse postResponse = postService.createPost(requestDto, authentication.getName());
+        PostCreateResponse postResponse = postService.createPost(requestDto, AuthenticatedUser.from(authentication));
 
         return ResponseEntity.ok(Response.success(postResponse));
     }
 
+    // 최대 MAX_BULK_CREATE_SIZE 건 : 이전 토큰의 회원 조회 · multi-row insert 1회
+    @PostMapping("/bulk")
+    @StatementBudget(2)
+    public ResponseEntity<Response<PostBulkCreateResponse>> createBulk(@RequestBody List<PostCreateRequest> requestDtos, Authentication authentication) {
+
+        PostBulkCreateResponse response = postService.createPosts(requestDtos, AuthenticatedUser.from(authentication));
+
+        return ResponseEntity.ok(Response.success(response));
+    }
+
     @GetMapping("/{postId}")
-    public ResponseEntity<Response<PostGetResponse>> get(@PathVariable(name = "postId") Long postId) {
+    @StatementBudget(1)
+    public ResponseEntity<Response<PostGetResponse>> get(@PathVariable(name = "postId") Long postId, WebRequest webRequest) {
 
         PostGetResponse response = postService.getPost(postId);
+        String eTag = ETagUtil.of(postId, response.getVersion());
 
-        return ResponseEntity.ok(Response.success(response));
+        // If-None-Match 요청은 캐시된 게시글의 버전과 비교하여 변경되지 않았다면 본문 없이 304 응답
+        // 캐시는 수정 · 삭제 커밋 이후 제거되므로 캐시된 버전이 최신 버전
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(Response.success(response));
     }
 
     @GetMapping
+    @StatementBudget(2)
     public ResponseEntity<Response<Page<PostGetResponse>>> getPage(Pageable pageable) {
 
         Page<PostGetResponse> response = postService.getPostPage(pageable);
 
-        return ResponseEntity.ok(Response.success(response));
+        return ResponseEntity.ok()
+                .eTag(ETagUtil.of(response))
+                .body(Response.success(response));
+    }
+
+    @GetMapping("/cursor")
+    @StatementBudget(1)
+    public ResponseEntity<Response<PostCursorResponse>> getCursorPage(@RequestParam(name = "after", required = false) String after,
+                                                                      @RequestParam(name = "before", required = false) String before,
+                                                                      @RequestParam(name = "size", defaultValue = "" + DEFAULT_CURSOR_PAGE_SIZE) int size) {
+
+        PostCursorResponse response = postService.getPostCursorPage(after, before, size);
+
+        return ResponseEntity.ok()
+                .eTag(ETagUtil.of(response.getContent(), response.getNextCursor(), response.getPrevCursor()))
+                .body(Response.success(response));
     }
 
+    @GetMapping("/search")
+    @StatementBudget(1)
+    public ResponseEntity<Response<Page<PostGetResponse>>> search(@RequestParam(name = "q") String query, Pageable pageable) {
+
+        Page<PostGetResponse> response = postService.searchPosts(query, pageable);
+
+        return ResponseEntity.ok()
+                .eTag(ETagUtil.of(response))
+                .body(Response.success(response));
+    }
+
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    @StatementBudget(1)
+    public void export(HttpServletResponse response) throws IOException {
+
+        // 동시 내보내기 수를 초과하면 커넥션을 사용하지 않고 503 응답
+        exportConcurrencyLimiter.acquire();
+
+        response.setContentType("application/x-ndjson;charset=UTF-8");
+
+        // 내보내기 도중 실패하더라도 generator 를 닫아 버퍼에 남은 내용을 내보내고 스트림을 정리
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            generator.setRootValueSeparator(null);
+            long[] writtenCount = {0L};
+
+            postService.exportPosts(post -> {
+                try {
+                    generator.writeObject(post);
+                    generator.writeRaw('\n');
+                    if (++writtenCount[0] % EXPORT_FLUSH_INTERVAL == 0) {
+                        generator.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            exportConcurrencyLimiter.release();
+        }
+    }
+
+    // 이전 토큰의 회원 조회 · update, 수정되지 않은 경우 원인 조회
     @PutMapping("/{postId}")
-    public ResponseEntity<Response<PostUpdateResponse>> update(@RequestBody PostUpdateRequest requestDto, Authentication authentication, @PathVariable(name = "postId") Long postId) {
+    @StatementBudget(3)
+    public ResponseEntity<Response<PostUpdateResponse>> update(@RequestBody PostUpdateRequest requestDto, Authentication authentication, @PathVariable(name = "postId") Long postId,
+                                                               @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
-        PostUpdateResponse response = postService.updatePost(requestDto, postId, authentication.getName());
+        PostUpdateResponse response = postService.updatePost(requestDto, postId, AuthenticatedUser.from(authentication), ETagUtil.parseVersion(postId, ifMatch));
 
-        return ResponseEntity.ok(Response.success(response));
+        // If-Match 로 요청한 경우에만 수정된 버전을 알 수 있으므로 ETag 전달
+        if (response.getVersion() == null) {
+            return ResponseEntity.ok(Response.success(response));
+        }
+
+        return ResponseEntity.ok()
+                .eTag(ETagUtil.of(postId, response.getVersion()))
+                .body(Response.success(response));
     }
 
+    // 이전 토큰의 회원 조회 · delete, 삭제되지 않은 경우 원인 조회
     @DeleteMapping("/{postId}")
-    public ResponseEntity<Response<PostDeleteResponse>> delete(Authentication authentication, @PathVariable(name = "postId") Long postId) {
+    @StatementBudget(3)
+    public ResponseEntity<Response<PostDeleteResponse>> delete(Authentication authentication, @PathVariable(name = "postId") Long postId,
+                                                               @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
-        PostDeleteResponse response = postService.deletePost(postId, authentication.getName());
+        PostDeleteResponse response = postService.deletePost(postId, AuthenticatedUser.from(authentication), ETagUtil.parseVersion(postId, ifMatch));
 
         return ResponseEntity.ok(Response.success(response));
     }
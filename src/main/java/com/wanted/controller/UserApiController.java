@@ -5,40 +5,48 @@ import com.wanted.domain.user.dto.UserCreateResponse;
 import com.wanted.domain.user.dto.UserLoginRequest;
 import com.wanted.domain.user.dto.UserLoginResponse;
 import com.wanted.global.Response;
-import com.wanted.global.annotation.BindingCheck;
+import com.wanted.global.concurrent.PasswordHashingExecutor;
+import com.wanted.global.ratelimit.LoginRateLimiter;
 import com.wanted.global.specification.UserApiSpecification;
 import com.wanted.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/users")
 public class UserApiController implements UserApiSpecification {
     private final UserService userService;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final LoginRateLimiter loginRateLimiter;
 
+    /**
+     * 비밀번호 해싱이 필요한 요청은 전용 스레드 풀에서 처리하고, 요청 스레드는 바로 반환
+     */
     @PostMapping
-    @BindingCheck
-    public ResponseEntity<Response<UserCreateResponse>> create(@RequestBody @Validated UserCreateRequest requestDto, BindingResult br) {
-
-        UserCreateResponse response = userService.createUser(requestDto);
+    public CompletableFuture<ResponseEntity<Response<UserCreateResponse>>> create(@RequestBody @Validated UserCreateRequest requestDto) {
 
-        return ResponseEntity.ok(Response.success(response));
+        return passwordHashingExecutor.submit(() -> userService.createUser(requestDto))
+                .thenApply(response -> ResponseEntity.ok(Response.success(response)));
     }
 
     @PostMapping("/login")
-    @BindingCheck
-    public ResponseEntity<Response<UserLoginResponse>> login(@RequestBody @Validated UserLoginRequest requestDto, BindingResult br) {
+    public CompletableFuture<ResponseEntity<Response<UserLoginResponse>>> login(@RequestBody @Validated UserLoginRequest requestDto,
+                                                                               HttpServletRequest request) {
 
-        UserLoginResponse response = userService.loginUser(requestDto);
+        // 시도 횟수 초과 시 회원 조회 · 비밀번호 확인 없이 거절
+        loginRateLimiter.check(requestDto.getEmail(), request.getRemoteAddr());
 
-        return ResponseEntity.ok(Response.success(response));
+        return passwordHashingExecutor.submit(() -> userService.loginUser(requestDto))
+                .thenApply(response -> ResponseEntity.ok(Response.success(response)));
     }
 
 }
@@ -16,7 +16,7 @@ public class Post {
     @Column(name = "post_id")
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
@@ -24,6 +24,13 @@ public class Post {
 
     private String body;
 
+    /**
+     * 게시글이 수정될 때마다 증가하며, 조회 응답의 ETag 로 사용
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @Builder
     public Post(User user, String title, String body) {
         this.user = user;
@@ -31,8 +38,11 @@ public class Post {
         this.body = body;
     }
 
-    public boolean checkUser(User user) {
-        return this.user.getEmail().equals(user.getEmail());
+    /**
+     * 작성자 id 비교 (작성자 프록시를 초기화하지 않음)
+     */
+    public boolean isWrittenBy(Long userId) {
+        return this.user.getId().equals(userId);
     }
 
     public void update(String title, String body) {
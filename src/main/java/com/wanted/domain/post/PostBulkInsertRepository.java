@@ -0,0 +1,12 @@
+package com.wanted.domain.post;
+
+import java.util.List;
+
+public interface PostBulkInsertRepository {
+
+    /**
+     * 게시글 일괄 저장 : JDBC batch 1회로 insert 하고 생성된 postId 를 저장 순서대로 반환
+     * MySQL 에서는 rewriteBatchedStatements 로 multi-row insert 1건으로 전송되며, 영속성 컨텍스트를 거치지 않음
+     */
+    List<Long> insertAll(List<Post> posts);
+}
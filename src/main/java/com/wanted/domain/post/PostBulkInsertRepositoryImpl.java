@@ -0,0 +1,46 @@
+package com.wanted.domain.post;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+public class PostBulkInsertRepositoryImpl implements PostBulkInsertRepository {
+
+    private static final String INSERT_SQL = "insert into post (user_id, title, body, version) values (?, ?, ?, 0)";
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public List<Long> insertAll(List<Post> posts) {
+        if (posts.isEmpty()) {
+            return List.of();
+        }
+
+        return em.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (Post post : posts) {
+                    statement.setLong(1, post.getUser().getId());
+                    statement.setString(2, post.getTitle());
+                    statement.setString(3, post.getBody());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+
+                List<Long> postIds = new ArrayList<>(posts.size());
+                try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                    while (generatedKeys.next()) {
+                        postIds.add(generatedKeys.getLong(1));
+                    }
+                }
+                return postIds;
+            }
+        });
+    }
+}
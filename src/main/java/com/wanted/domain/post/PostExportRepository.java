@@ -0,0 +1,14 @@
+package com.wanted.domain.post;
+
+import com.wanted.domain.post.dto.PostGetResponse;
+
+import java.util.stream.Stream;
+
+public interface PostExportRepository {
+
+    /**
+     * 전체 게시글 내보내기 : DB 에서 스트리밍으로 읽어오며, dto 로 조회하므로 영속성 컨텍스트에 쌓이지 않음
+     * 반드시 트랜잭션 안에서 사용한 뒤 close 해야 함
+     */
+    Stream<PostGetResponse> streamAllPostGetResponses();
+}
@@ -0,0 +1,25 @@
+package com.wanted.domain.post;
+
+import com.wanted.domain.post.dto.PostGetResponse;
+import com.wanted.global.constants.PostConstants;
+import com.wanted.global.util.StreamingFetchSize;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.stream.Stream;
+
+public class PostExportRepositoryImpl implements PostExportRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public Stream<PostGetResponse> streamAllPostGetResponses() {
+        return em.createQuery("select new com.wanted.domain.post.dto.PostGetResponse(p.id, u.email, p.title, p.body, p.version) " +
+                        "from Post p join p.user u order by p.id asc", PostGetResponse.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, StreamingFetchSize.of(em, PostConstants.EXPORT_FETCH_SIZE))
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+}
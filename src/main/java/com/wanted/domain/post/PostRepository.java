@@ -1,9 +1,72 @@
 package com.wanted.domain.post;
 
+import com.wanted.domain.post.dto.PostGetResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface PostRepository extends JpaRepository<Post, Long> {
+public interface PostRepository extends JpaRepository<Post, Long>, PostExportRepository, PostBulkInsertRepository {
+
+    /**
+     * 조회용 쿼리 : 작성자를 join 하여 PostGetResponse 를 한 번의 쿼리로 생성 (작성자 추가 조회 없음)
+     */
+    @Query("select new com.wanted.domain.post.dto.PostGetResponse(p.id, u.email, p.title, p.body, p.version) " +
+            "from Post p join p.user u where p.id = :postId")
+    Optional<PostGetResponse> findPostGetResponseById(@Param("postId") Long postId);
+
+    @Query(value = "select new com.wanted.domain.post.dto.PostGetResponse(p.id, u.email, p.title, p.body, p.version) " +
+            "from Post p join p.user u",
+            countQuery = "select count(p) from Post p")
+    Page<PostGetResponse> findPostGetResponses(Pageable pageable);
+
+    @Query("select new com.wanted.domain.post.dto.PostGetResponse(p.id, u.email, p.title, p.body, p.version) " +
+            "from Post p join p.user u where p.id in :postIds")
+    List<PostGetResponse> findPostGetResponsesByIdIn(@Param("postIds") List<Long> postIds);
+
+    /**
+     * 커서 단위 조회 : 반환 타입이 List 이므로 COUNT 쿼리 없이 LIMIT 만 적용
+     */
+    @Query("select new com.wanted.domain.post.dto.PostGetResponse(p.id, u.email, p.title, p.body, p.version) " +
+            "from Post p join p.user u order by p.id desc")
+    List<PostGetResponse> findPostGetResponsesOrderByIdDesc(Pageable pageable);
+
+    @Query("select new com.wanted.domain.post.dto.PostGetResponse(p.id, u.email, p.title, p.body, p.version) " +
+            "from Post p join p.user u where p.id < :postId order by p.id desc")
+    List<PostGetResponse> findPostGetResponsesByIdLessThan(@Param("postId") Long postId, Pageable pageable);
+
+    @Query("select new com.wanted.domain.post.dto.PostGetResponse(p.id, u.email, p.title, p.body, p.version) " +
+            "from Post p join p.user u where p.id > :postId order by p.id asc")
+    List<PostGetResponse> findPostGetResponsesByIdGreaterThan(@Param("postId") Long postId, Pageable pageable);
+
+    /**
+     * 작성자 본인 게시글 수정 : 회원 · 게시글 조회 없이 작성자 id · 버전 조건을 포함한 UPDATE 1회로 수정
+     * bulk 연산은 @Version 을 자동으로 증가시키지 않으므로 직접 증가, version 이 null 이면 버전 조건 없음
+     * 수정된 게시글 수(0 또는 1)를 반환
+     */
+    @Modifying
+    @Query("update Post p set p.title = :title, p.body = :body, p.version = p.version + 1 " +
+            "where p.id = :postId " +
+            "and p.user.id = :userId " +
+            "and (:version is null or p.version = :version)")
+    int updateOwnedPost(@Param("postId") Long postId, @Param("userId") Long userId, @Param("version") Long version,
+                        @Param("title") String title, @Param("body") String body);
 
+    /**
+     * 작성자 본인 게시글 삭제 : 회원 · 게시글 조회 없이 작성자 id · 버전 조건을 포함한 DELETE 1회로 삭제
+     * 삭제된 게시글 수(0 또는 1)를 반환
+     */
+    @Modifying
+    @Query("delete from Post p " +
+            "where p.id = :postId " +
+            "and p.user.id = :userId " +
+            "and (:version is null or p.version = :version)")
+    int deleteOwnedPost(@Param("postId") Long postId, @Param("userId") Long userId, @Param("version") Long version);
 }
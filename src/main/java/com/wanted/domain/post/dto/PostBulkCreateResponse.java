@@ -0,0 +1,27 @@
+package com.wanted.domain.post.dto;
+
+import com.wanted.domain.user.User;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostBulkCreateResponse {
+    private Long userId;
+    private int createdCount;
+    private List<Long> postIds;
+
+    public static PostBulkCreateResponse from(User user, List<Long> postIds) {
+        return PostBulkCreateResponse.builder()
+                .userId(user.getId())
+                .createdCount(postIds.size())
+                .postIds(postIds)
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.wanted.domain.post.dto;
+
+import com.wanted.global.util.CursorUtil;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostCursorResponse {
+    private List<PostGetResponse> content;
+    private String nextCursor;
+    private String prevCursor;
+
+    /**
+     * 조회된 게시글 목록(post_id 내림차순)의 양 끝 post_id 로 다음 · 이전 커서를 생성
+     */
+    public static PostCursorResponse of(List<PostGetResponse> content, boolean hasNext, boolean hasPrev) {
+        if (content.isEmpty()) {
+            return PostCursorResponse.builder()
+                    .content(content)
+                    .build();
+        }
+
+        return PostCursorResponse.builder()
+                .content(content)
+                .nextCursor(hasNext ? CursorUtil.encode(content.get(content.size() - 1).getPostId()) : null)
+                .prevCursor(hasPrev ? CursorUtil.encode(content.get(0).getPostId()) : null)
+                .build();
+    }
+}
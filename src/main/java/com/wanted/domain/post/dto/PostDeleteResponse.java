@@ -1,6 +1,5 @@
 package com.wanted.domain.post.dto;
 
-import com.wanted.domain.post.Post;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -12,14 +11,10 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class PostDeleteResponse {
     private Long postId;
-    private String title;
-    private String body;
 
-    public static PostDeleteResponse from(Post post) {
+    public static PostDeleteResponse from(Long postId) {
         return PostDeleteResponse.builder()
-                .postId(post.getId())
-                .title(post.getTitle())
-                .body(post.getBody())
+                .postId(postId)
                 .build();
     }
 
@@ -1,5 +1,6 @@
 package com.wanted.domain.post.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.wanted.domain.post.Post;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -16,6 +17,8 @@ public class PostGetResponse {
     private String author;
     private String title;
     private String body;
+    @JsonIgnore
+    private Long version;
 
     public static PostGetResponse from(Post foundPost) {
         return PostGetResponse.builder()
@@ -23,6 +26,7 @@ public class PostGetResponse {
                 .postId(foundPost.getId())
                 .title(foundPost.getTitle())
                 .body(foundPost.getBody())
+                .version(foundPost.getVersion())
                 .build();
     }
 }
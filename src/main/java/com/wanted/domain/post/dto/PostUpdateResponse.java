@@ -1,6 +1,6 @@
 package com.wanted.domain.post.dto;
 
-import com.wanted.domain.post.Post;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -14,12 +14,15 @@ public class PostUpdateResponse {
     private Long postId;
     private String title;
     private String body;
+    @JsonIgnore
+    private Long version;
 
-    public static PostUpdateResponse from(Post post) {
+    public static PostUpdateResponse of(Long postId, PostUpdateRequest requestDto, Long version) {
         return PostUpdateResponse.builder()
-                .postId(post.getId())
-                .title(post.getTitle())
-                .body(post.getBody())
+                .postId(postId)
+                .title(requestDto.getTitle())
+                .body(requestDto.getBody())
+                .version(version)
                 .build();
     }
 
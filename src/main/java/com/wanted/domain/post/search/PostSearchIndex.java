@@ -0,0 +1,496 @@
+package com.wanted.domain.post.search;
+
+import com.wanted.domain.post.PostRepository;
+import com.wanted.domain.post.dto.PostGetResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 제목 · 본문에 대한 메모리 역색인(inverted index)
+ * 애플리케이션 시작 후 백그라운드에서 DB 의 모든 게시글로 생성하고, 게시글 작성 · 수정 · 삭제 시 커밋 이후에 반영
+ * 생성이 끝나기 전(isReady 가 false)에는 검색 요청을 거절하며, 생성에 실패하면 간격을 늘려가며 다시 생성
+ * 검색 결과는 BM25 점수 순으로 정렬
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int TITLE_WEIGHT = 2;
+    private static final int BUILD_BATCH_SIZE = 1000;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final long BUILD_RETRY_INITIAL_DELAY_MILLIS = 1_000;
+    private static final long BUILD_RETRY_MAX_DELAY_MILLIS = 300_000;
+
+    private final PostRepository postRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ScheduledExecutorService buildExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "post-search-index-build");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile boolean ready = false;
+
+    // 토큰 -> 토큰이 포함된 문서 목록
+    private final Map<String, Postings> postingsByTerm = new HashMap<>();
+    // post_id -> 내부 문서 번호
+    private final Map<Long, Integer> docByPostId = new HashMap<>();
+    private long[] postIds = new long[INITIAL_CAPACITY];
+    private int[] docLengths = new int[INITIAL_CAPACITY];
+    private String[][] docTerms = new String[INITIAL_CAPACITY][];
+    private int maxDoc = 0;
+    private long totalLength = 0;
+
+    // 제거된 문서 번호 : 토큰별 문서 목록에서 바로 지우지 않고 검색 시 제외하며, 전체 문서의 절반 이상이면 한 번에 정리
+    private final BitSet deletedDocs = new BitSet();
+    private int deletedCount = 0;
+
+    // 인덱스 생성 중 삭제된 게시글이 생성 과정에서 다시 색인되지 않도록 기록
+    private boolean building = false;
+    private final Set<Long> removedDuringBuild = new HashSet<>();
+
+    /**
+     * 애플리케이션 시작 후 백그라운드에서 인덱스 생성 (요청 처리를 막지 않음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildAsync() {
+        scheduleBuild(0L);
+    }
+
+    /**
+     * delayMillis 후 인덱스 생성, 실패하면 대기 시간을 2배씩 늘려(최대 BUILD_RETRY_MAX_DELAY_MILLIS) 다시 생성
+     */
+    private void scheduleBuild(long delayMillis) {
+        try {
+            buildExecutor.schedule(() -> {
+                build();
+                if (!ready) {
+                    long nextDelayMillis = Math.min(Math.max(delayMillis * 2, BUILD_RETRY_INITIAL_DELAY_MILLIS), BUILD_RETRY_MAX_DELAY_MILLIS);
+                    log.warn("게시글 검색 인덱스 생성 재시도 예정 : {}ms 후", nextDelayMillis);
+                    scheduleBuild(nextDelayMillis);
+                }
+            }, delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 애플리케이션 종료 중
+        }
+    }
+
+    /**
+     * post_id 순으로 모든 게시글을 나누어 조회하여 색인, 실패 시 생성 완료로 표시하지 않음
+     */
+    public void build() {
+        long startedAt = System.currentTimeMillis();
+        setBuilding(true);
+
+        try {
+            long lastPostId = 0L;
+            long indexedCount = 0L;
+            List<PostGetResponse> posts;
+            do {
+                posts = postRepository.findPostGetResponsesByIdGreaterThan(lastPostId, PageRequest.of(0, BUILD_BATCH_SIZE));
+                for (PostGetResponse post : posts) {
+                    put(post.getPostId(), post.getTitle(), post.getBody(), true);
+                    lastPostId = post.getPostId();
+                }
+                indexedCount += posts.size();
+            } while (posts.size() == BUILD_BATCH_SIZE);
+
+            ready = true;
+            log.info("게시글 검색 인덱스 생성 완료 : {}건, {}ms", indexedCount, System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.error("게시글 검색 인덱스 생성 실패", e);
+        } finally {
+            setBuilding(false);
+        }
+    }
+
+    /**
+     * 인덱스 생성 완료 여부 (false 면 검색 결과에 기존 게시글이 누락될 수 있으므로 검색하지 않음)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        buildExecutor.shutdownNow();
+    }
+
+    /**
+     * 게시글 색인 (이미 색인된 게시글이면 교체)
+     */
+    public void index(Long postId, String title, String body) {
+        runAfterCommit(() -> put(postId, title, body, false));
+    }
+
+    /**
+     * 게시글 색인 제거
+     */
+    public void remove(Long postId) {
+        runAfterCommit(() -> delete(postId));
+    }
+
+    /**
+     * 검색어와 일치하는 게시글 중 offset 부터 size 개의 post_id 를 점수 내림차순으로 반환
+     */
+    public PostSearchResult search(String query, long offset, int size) {
+        List<String> queryTerms = new ArrayList<>(new LinkedHashSet<>(PostTokenizer.tokenize(query)));
+        if (queryTerms.isEmpty()) {
+            return new PostSearchResult(List.of(), 0);
+        }
+
+        lock.readLock().lock();
+        try {
+            int docCount = docByPostId.size();
+            if (docCount == 0) {
+                return new PostSearchResult(List.of(), 0);
+            }
+
+            List<Postings> matched = new ArrayList<>(queryTerms.size());
+            long candidateCount = 0;
+            for (String term : queryTerms) {
+                Postings postings = postingsByTerm.get(term);
+                if (postings != null) {
+                    matched.add(postings);
+                    candidateCount += postings.live;
+                }
+            }
+
+            ScoreTable scores = new ScoreTable(maxDoc, candidateCount);
+            float avgLength = (float) totalLength / docCount;
+
+            for (Postings postings : matched) {
+                float idf = (float) Math.log(1 + (docCount - postings.live + 0.5) / (postings.live + 0.5));
+                for (int i = 0; i < postings.size; i++) {
+                    int doc = postings.docs[i];
+                    if (deletedDocs.get(doc)) {
+                        continue;
+                    }
+                    int tf = postings.freqs[i];
+                    float norm = K1 * (1 - B + B * docLengths[doc] / avgLength);
+                    scores.add(doc, idf * tf * (K1 + 1) / (tf + norm));
+                }
+            }
+
+            return new PostSearchResult(topPostIds(scores, offset, size), scores.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 점수 상위 (offset + size) 개만 힙으로 유지한 뒤 요청한 범위의 post_id 를 반환
+     * 점수가 같으면 최신 게시글이 앞에 위치
+     */
+    private List<Long> topPostIds(ScoreTable scores, long offset, int size) {
+        if (offset >= scores.size() || size <= 0) {
+            return List.of();
+        }
+
+        int limit = (int) Math.min(offset + size, scores.size());
+        Comparator<int[]> byScore = Comparator.<int[]>comparingDouble(entry -> Float.intBitsToFloat(entry[1]))
+                .thenComparingLong(entry -> postIds[entry[0]]);
+        PriorityQueue<int[]> heap = new PriorityQueue<>(limit + 1, byScore);
+
+        scores.forEach((doc, score) -> {
+            heap.offer(new int[]{doc, Float.floatToIntBits(score)});
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        });
+
+        long[] ranked = new long[heap.size()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            ranked[i] = postIds[heap.poll()[0]];
+        }
+
+        List<Long> result = new ArrayList<>(size);
+        for (int i = (int) offset; i < ranked.length; i++) {
+            result.add(ranked[i]);
+        }
+        return result;
+    }
+
+    private void put(Long postId, String title, String body, boolean onlyIfAbsent) {
+        Map<String, Integer> termFreqs = new HashMap<>();
+        for (String term : PostTokenizer.tokenize(title)) {
+            termFreqs.merge(term, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String term : PostTokenizer.tokenize(body)) {
+            termFreqs.merge(term, 1, Integer::sum);
+        }
+
+        lock.writeLock().lock();
+        try {
+            Integer existing = docByPostId.get(postId);
+            if (existing != null) {
+                if (onlyIfAbsent) {
+                    return;
+                }
+                unindex(existing);
+            } else if (onlyIfAbsent && removedDuringBuild.contains(postId)) {
+                return;
+            }
+
+            int doc = allocateDoc(postId);
+            String[] terms = new String[termFreqs.size()];
+            int length = 0;
+            int t = 0;
+            for (Map.Entry<String, Integer> termFreq : termFreqs.entrySet()) {
+                Postings postings = postingsByTerm.computeIfAbsent(termFreq.getKey(), Postings::new);
+                postings.add(doc, termFreq.getValue());
+                terms[t++] = postings.term;
+                length += termFreq.getValue();
+            }
+
+            docTerms[doc] = terms;
+            docLengths[doc] = length;
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void delete(Long postId) {
+        lock.writeLock().lock();
+        try {
+            if (building) {
+                removedDuringBuild.add(postId);
+            }
+
+            Integer doc = docByPostId.get(postId);
+            if (doc != null) {
+                unindex(doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서에 삭제 표시만 하고 토큰별 문서 목록은 그대로 두어, 문서 목록 길이와 관계없이 문서의 토큰 수만큼만 처리
+     * 삭제 표시된 문서가 전체의 절반 이상이면 정리하므로 정리 비용은 제거 1건당 상수 시간으로 분산됨
+     */
+    private void unindex(int doc) {
+        for (String term : docTerms[doc]) {
+            Postings postings = postingsByTerm.get(term);
+            postings.live--;
+            if (postings.live == 0) {
+                postingsByTerm.remove(term);
+            }
+        }
+
+        totalLength -= docLengths[doc];
+        docByPostId.remove(postIds[doc]);
+        postIds[doc] = 0L;
+        docLengths[doc] = 0;
+        docTerms[doc] = null;
+        deletedDocs.set(doc);
+        deletedCount++;
+
+        if (deletedCount * 2 >= maxDoc) {
+            compact();
+        }
+    }
+
+    /**
+     * 삭제 표시된 문서를 토큰별 문서 목록에서 제거하고, 남은 문서에 앞에서부터 문서 번호를 다시 부여
+     */
+    private void compact() {
+        int[] newDocs = new int[maxDoc];
+        int liveCount = 0;
+        for (int doc = 0; doc < maxDoc; doc++) {
+            if (deletedDocs.get(doc)) {
+                continue;
+            }
+            newDocs[doc] = liveCount;
+            postIds[liveCount] = postIds[doc];
+            docLengths[liveCount] = docLengths[doc];
+            docTerms[liveCount] = docTerms[doc];
+            docByPostId.put(postIds[liveCount], liveCount);
+            liveCount++;
+        }
+
+        for (Postings postings : postingsByTerm.values()) {
+            postings.compact(deletedDocs, newDocs);
+        }
+
+        Arrays.fill(postIds, liveCount, maxDoc, 0L);
+        Arrays.fill(docLengths, liveCount, maxDoc, 0);
+        Arrays.fill(docTerms, liveCount, maxDoc, null);
+        maxDoc = liveCount;
+        deletedDocs.clear();
+        deletedCount = 0;
+    }
+
+    private int allocateDoc(Long postId) {
+        if (maxDoc == postIds.length) {
+            int capacity = postIds.length * 2;
+            postIds = Arrays.copyOf(postIds, capacity);
+            docLengths = Arrays.copyOf(docLengths, capacity);
+            docTerms = Arrays.copyOf(docTerms, capacity);
+        }
+        int doc = maxDoc++;
+
+        postIds[doc] = postId;
+        docByPostId.put(postId, doc);
+        return doc;
+    }
+
+    private void setBuilding(boolean building) {
+        lock.writeLock().lock();
+        try {
+            this.building = building;
+            if (!building) {
+                removedDuringBuild.clear();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 트랜잭션 안에서 호출된 경우, 롤백된 변경이 색인되지 않도록 커밋 이후에 실행
+     */
+    private void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    /**
+     * 토큰 하나에 대한 문서 번호 · 토큰 빈도 목록 (boxing 없이 배열로 관리)
+     * 삭제 표시된 문서도 정리 전까지 목록에 남으며, live 는 삭제되지 않은 문서 수
+     */
+    private static final class Postings {
+        private final String term;
+        private int[] docs = new int[4];
+        private int[] freqs = new int[4];
+        private int size = 0;
+        private int live = 0;
+
+        private Postings(String term) {
+            this.term = term;
+        }
+
+        private void add(int doc, int freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = freq;
+            size++;
+            live++;
+        }
+
+        private void compact(BitSet deletedDocs, int[] newDocs) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (!deletedDocs.get(docs[i])) {
+                    docs[kept] = newDocs[docs[i]];
+                    freqs[kept] = freqs[i];
+                    kept++;
+                }
+            }
+            size = kept;
+        }
+    }
+
+    /**
+     * 문서별 점수 누적
+     * 후보 문서가 전체 문서에 비해 적으면 해시 테이블을, 많으면 문서 번호로 바로 접근하는 배열을 사용
+     */
+    private static final class ScoreTable {
+        private final float[] dense;
+        private final int[] keys;
+        private final float[] values;
+        private int size = 0;
+
+        private ScoreTable(int maxDoc, long candidateCount) {
+            if (candidateCount * 4 >= maxDoc) {
+                dense = new float[maxDoc];
+                keys = null;
+                values = null;
+            } else {
+                int capacity = Integer.highestOneBit((int) Math.max(candidateCount, 2) * 2 - 1) << 1;
+                dense = null;
+                keys = new int[capacity];
+                values = new float[capacity];
+                Arrays.fill(keys, -1);
+            }
+        }
+
+        private void add(int doc, float score) {
+            if (dense != null) {
+                if (dense[doc] == 0f) {
+                    size++;
+                }
+                dense[doc] += score;
+                return;
+            }
+
+            int mask = keys.length - 1;
+            int slot = (doc * 0x9E3779B9) >>> 1 & mask;
+            while (keys[slot] != -1 && keys[slot] != doc) {
+                slot = (slot + 1) & mask;
+            }
+            if (keys[slot] == -1) {
+                keys[slot] = doc;
+                size++;
+            }
+            values[slot] += score;
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private void forEach(ScoreConsumer consumer) {
+            if (dense != null) {
+                for (int doc = 0; doc < dense.length; doc++) {
+                    if (dense[doc] > 0f) {
+                        consumer.accept(doc, dense[doc]);
+                    }
+                }
+                return;
+            }
+
+            for (int slot = 0; slot < keys.length; slot++) {
+                if (keys[slot] != -1) {
+                    consumer.accept(keys[slot], values[slot]);
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ScoreConsumer {
+        void accept(int doc, float score);
+    }
+}
@@ -0,0 +1,21 @@
+package com.wanted.domain.post.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class PostSearchResult {
+
+    /**
+     * 요청한 페이지에 해당하는 게시글 id (점수 내림차순)
+     */
+    private List<Long> postIds;
+
+    /**
+     * 검색어와 일치하는 전체 게시글 수
+     */
+    private long totalHits;
+}
@@ -0,0 +1,86 @@
+package com.wanted.domain.post.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 게시글 검색용 토크나이저
+ * 영문 · 숫자는 단어 단위 소문자 토큰으로, 한글 · 한자 · 가나는 형태소 분석 없이 2-gram 토큰으로 분리
+ * 한글은 조사가 단어에 붙어 있으므로("게시글을") 2-gram 으로 분리해야 "게시글" 검색 시에도 일치함
+ */
+public class PostTokenizer {
+
+    private static final int MAX_TOKEN_LENGTH = 40;
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+        StringBuilder word = new StringBuilder();
+        StringBuilder cjk = new StringBuilder();
+
+        int i = 0;
+        while (i < normalized.length()) {
+            int codePoint = normalized.codePointAt(i);
+
+            if (isCjk(codePoint)) {
+                flushWord(word, tokens);
+                cjk.appendCodePoint(codePoint);
+            } else if (Character.isLetterOrDigit(codePoint)) {
+                flushCjk(cjk, tokens);
+                word.appendCodePoint(codePoint);
+            } else {
+                flushWord(word, tokens);
+                flushCjk(cjk, tokens);
+            }
+
+            i += Character.charCount(codePoint);
+        }
+
+        flushWord(word, tokens);
+        flushCjk(cjk, tokens);
+
+        return tokens;
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+
+    private static void flushWord(StringBuilder word, List<String> tokens) {
+        if (word.length() > 0 && word.length() <= MAX_TOKEN_LENGTH) {
+            tokens.add(word.toString());
+        }
+        word.setLength(0);
+    }
+
+    /**
+     * 한 글자인 경우 그대로, 두 글자 이상인 경우 2-gram 으로 분리
+     */
+    private static void flushCjk(StringBuilder cjk, List<String> tokens) {
+        int length = cjk.codePointCount(0, cjk.length());
+
+        if (length == 1) {
+            tokens.add(cjk.toString());
+        } else if (length > 1) {
+            int start = 0;
+            for (int n = 0; n < length - 1; n++) {
+                int next = cjk.offsetByCodePoints(start, 1);
+                int end = cjk.offsetByCodePoints(next, 1);
+                tokens.add(cjk.substring(start, end));
+                start = next;
+            }
+        }
+        cjk.setLength(0);
+    }
+}
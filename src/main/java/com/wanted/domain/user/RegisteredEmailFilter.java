@@ -0,0 +1,171 @@
+package com.wanted.domain.user;
+
+import com.wanted.global.util.BloomFilter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 가입된 이메일에 대한 메모리 Bloom filter
+ * mightContain 이 false 인 이메일은 회원 가입 시 중복 확인 쿼리를 생략 (최종 확인은 email unique 제약 조건)
+ * 애플리케이션 시작 후 백그라운드에서 생성하며, 생성 전 · 생성 실패 시에는 항상 true 를 반환하여 DB 조회로 대체
+ * 가입한 회원 수가 예상치를 넘어 오탐률이 높아지면 2배 크기로 백그라운드에서 다시 생성
+ * 이 인스턴스를 거치지 않고 저장된 회원(다른 인스턴스 · 직접 insert · 복원)은 filter 에 없을 수 있으므로,
+ * 로그인처럼 false 를 가입되지 않은 것으로 확정하면 안 되는 조회에는 사용하지 않음
+ */
+@Slf4j
+@Component
+public class RegisteredEmailFilter {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final double falsePositiveProbability;
+    private final long minimumExpectedInsertions;
+
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "email-filter-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    // 조회에 사용하는 filter (생성 전에는 null)
+    private volatile Generation current;
+    // 생성 중인 filter, 생성 도중 가입한 이메일도 함께 추가
+    private volatile Generation building;
+
+    public RegisteredEmailFilter(UserRepository userRepository, PlatformTransactionManager transactionManager,
+                                 @Value("${user.email-filter.false-positive-probability}") double falsePositiveProbability,
+                                 @Value("${user.email-filter.expected-insertions}") long minimumExpectedInsertions) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.minimumExpectedInsertions = minimumExpectedInsertions;
+    }
+
+    /**
+     * false 인 경우 해당 이메일로 가입된 회원이 없음 (생성 후 이메일이 null 이면 false)
+     */
+    public boolean mightContain(String email) {
+        Generation generation = current;
+        if (generation == null) {
+            return true;
+        }
+        return email != null && generation.filter.mightContain(normalize(email));
+    }
+
+    /**
+     * 회원 저장(커밋) 이후 호출
+     * 커밋 이후에 추가하므로, 생성 중인 filter 에 추가되지 못한 이메일은 생성 시 조회 결과에 포함됨
+     */
+    public void put(String email) {
+        if (email == null) {
+            return;
+        }
+        String key = normalize(email);
+
+        // 교체 직전 생성 중인 filter 를 놓치지 않도록 building 을 current 보다 먼저 확인 (교체 시 current 변경 후 building 을 비움)
+        Generation next = building;
+        if (next != null) {
+            next.filter.put(key);
+        }
+        Generation generation = current;
+        if (generation != null) {
+            generation.filter.put(key);
+        }
+
+        if (generation != null && generation.count.incrementAndGet() > generation.filter.getExpectedInsertions()) {
+            rebuildAsync();
+        }
+    }
+
+    /**
+     * 백그라운드에서 filter 재생성 (이미 생성 중이면 무시)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildAsync() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            rebuildExecutor.execute(this::build);
+        } catch (RejectedExecutionException e) {
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * 호출한 스레드에서 filter 재생성 (이미 생성 중이면 무시)
+     */
+    public void rebuild() {
+        if (rebuilding.compareAndSet(false, true)) {
+            build();
+        }
+    }
+
+    /**
+     * 전체 회원 이메일을 조회하여 새 filter 를 생성한 뒤 교체, 실패 시 기존 filter 유지
+     */
+    private void build() {
+        try {
+            long startedAt = System.currentTimeMillis();
+            long userCount = userRepository.count();
+            Generation next = new Generation(new BloomFilter(Math.max(minimumExpectedInsertions, userCount * 2), falsePositiveProbability));
+            building = next;
+
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<String> emails = userRepository.streamAllEmails()) {
+                    emails.filter(Objects::nonNull).forEach(email -> {
+                        next.filter.put(normalize(email));
+                        next.count.incrementAndGet();
+                    });
+                }
+            });
+
+            current = next;
+            log.info("가입 이메일 filter 생성 완료 : {}건, {}bit, {}ms", next.count.get(), next.filter.getBitCount(), System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.error("가입 이메일 filter 생성 실패, 기존 filter 유지", e);
+        } finally {
+            building = null;
+            rebuilding.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /**
+     * DB 의 이메일 비교는 대소문자를 구분하지 않으므로 소문자로 통일
+     */
+    private static String normalize(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Generation {
+        private final BloomFilter filter;
+        private final AtomicLong count = new AtomicLong();
+
+        private Generation(BloomFilter filter) {
+            this.filter = filter;
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package com.wanted.domain.user;
 
+import com.wanted.global.constants.UserConstants;
 import jakarta.persistence.*;
 import lombok.*;
 
 @Getter
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = UserConstants.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User {
 
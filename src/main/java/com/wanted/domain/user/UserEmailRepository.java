@@ -0,0 +1,12 @@
+package com.wanted.domain.user;
+
+import java.util.stream.Stream;
+
+public interface UserEmailRepository {
+
+    /**
+     * 가입 이메일 filter 생성용 : 이메일만 DB 에서 스트리밍으로 읽어옴
+     * 반드시 트랜잭션 안에서 사용한 뒤 close 해야 함
+     */
+    Stream<String> streamAllEmails();
+}
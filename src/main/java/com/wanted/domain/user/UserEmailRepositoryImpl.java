@@ -0,0 +1,23 @@
+package com.wanted.domain.user;
+
+import com.wanted.global.constants.UserConstants;
+import com.wanted.global.util.StreamingFetchSize;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.stream.Stream;
+
+public class UserEmailRepositoryImpl implements UserEmailRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public Stream<String> streamAllEmails() {
+        return em.createQuery("select u.email from User u", String.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, StreamingFetchSize.of(em, UserConstants.EMAIL_FETCH_SIZE))
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+}
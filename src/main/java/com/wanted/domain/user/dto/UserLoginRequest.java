@@ -13,6 +13,7 @@ import static com.wanted.global.constants.ValidationConstants.*;
 @Builder
 @EqualsAndHashCode
 public class UserLoginRequest {
+    @NotBlank(message = EMAIL_BINDING_ERROR_MESSAGE)
     @Email(message = EMAIL_BINDING_ERROR_MESSAGE)
     private String email;
 
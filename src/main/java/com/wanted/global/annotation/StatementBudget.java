@@ -5,8 +5,12 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+/**
+ * 요청 1건에서 실행할 수 있는 SQL 문 수 (지정하지 않은 엔드포인트는 jdbc.statement-budget.default)
+ */
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.METHOD)
-public @interface BindingCheck {
+public @interface StatementBudget {
 
+    int value();
 }
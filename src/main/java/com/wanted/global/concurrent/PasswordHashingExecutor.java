@@ -0,0 +1,84 @@
+package com.wanted.global.concurrent;
+
+import com.wanted.global.exception.AppException;
+import com.wanted.global.exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.wanted.global.constants.AuthConstants.HASHING_RETRY_AFTER_SECONDS;
+
+/**
+ * 비밀번호 해싱(BCrypt)이 필요한 회원가입 · 로그인 전용 스레드 풀 (bulkhead)
+ * CPU 코어 수만큼의 스레드와 크기가 제한된 대기열을 사용하며, 대기열이 가득 차면 즉시 503 으로 거절
+ * 로그인 요청이 몰려도 Tomcat 요청 스레드를 점유하지 않으므로 게시글 요청은 영향을 받지 않음
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+
+    public PasswordHashingExecutor(@Value("${auth.hashing.queue-capacity}") int queueCapacity) {
+        int poolSize = Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory(), new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 작업을 전용 스레드 풀에서 실행, 대기열이 가득 찬 경우 DB 조회 · 해싱 없이 즉시 AUTH_OVERLOADED 예외 발생
+     * 요청 스레드의 RequestAttributes 를 작업 스레드에 전달하여 커넥션 점유 시간 등이 요청 엔드포인트로 기록되도록 함
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(withRequestAttributes(task), executor);
+        } catch (RejectedExecutionException e) {
+            throw new AppException(ErrorCode.AUTH_OVERLOADED, HASHING_RETRY_AFTER_SECONDS);
+        }
+    }
+
+    private <T> Supplier<T> withRequestAttributes(Supplier<T> task) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return task;
+        }
+
+        return () -> {
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+            try {
+                return task.get();
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+            }
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("비밀번호 해싱 작업 {}건이 종료되지 않았습니다.", executor.shutdownNow().size());
+        }
+    }
+
+    private ThreadFactory threadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
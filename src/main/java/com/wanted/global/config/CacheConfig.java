@@ -0,0 +1,41 @@
+package com.wanted.global.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+import static com.wanted.global.constants.CacheConstants.POST_CACHE;
+
+/**
+ * 캐시 advice 가 트랜잭션 advice 보다 먼저 실행되도록 순서를 지정
+ * 동일한 키의 캐시 미스를 기다리는 요청들이 트랜잭션(DB 커넥션)을 점유하지 않음
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    /**
+     * 게시글 단건 조회 캐시
+     * 최대 개수 · TTL 로 제거되며, 적중 · 미적중 · 제거 횟수는 /actuator/metrics 의 cache.* 지표로 확인할 수 있음
+     * 트랜잭션 안에서의 put · evict 는 커밋 이후에 반영됨
+     */
+    @Bean
+    public CacheManager cacheManager(@Value("${cache.post.maximum-size}") long maximumSize,
+                                     @Value("${cache.post.expire-after-write}") Duration expireAfterWrite) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(POST_CACHE);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats());
+
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -1,5 +1,9 @@
 package com.wanted.global.config;
 
+import com.wanted.global.metrics.PhaseTimer;
+import com.wanted.global.metrics.TimedBCryptPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -9,8 +13,11 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 @EnableWebSecurity
 public class EncryptConfig {
 
+    /**
+     * 비밀번호 해싱 · 비교 시간을 request.phase (phase=password.hash) 로 기록
+     */
     @Bean
-    public BCryptPasswordEncoder encode() {
-        return new BCryptPasswordEncoder();
+    public BCryptPasswordEncoder encode(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new TimedBCryptPasswordEncoder(new PhaseTimer(meterRegistry, PhaseTimer.PASSWORD_HASH));
     }
 }
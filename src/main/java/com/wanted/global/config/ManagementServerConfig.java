@@ -0,0 +1,26 @@
+package com.wanted.global.config;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ManagementServerConfig {
+
+    @Value("${server.port:8080}")
+    private int serverPort;
+
+    @Value("${management.server.port}")
+    private int managementPort;
+
+    /**
+     * 관리 포트가 서비스 포트와 같으면 management.server.address 가 무시되고
+     * 지표 엔드포인트가 서비스 포트(인증 없이 허용)로 노출되므로 기동 중단
+     */
+    @PostConstruct
+    public void validateManagementPort() {
+        if (managementPort == serverPort) {
+            throw new IllegalStateException("management.server.port 는 server.port(" + serverPort + ") 와 달라야 합니다.");
+        }
+    }
+}
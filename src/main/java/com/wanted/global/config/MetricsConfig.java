@@ -0,0 +1,60 @@
+package com.wanted.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wanted.global.metrics.ConnectionHoldTimeDataSource;
+import com.wanted.global.metrics.PhaseTimer;
+import com.wanted.global.metrics.StatementBudgetInterceptor;
+import com.wanted.global.metrics.TimedJackson2HttpMessageConverter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    @Value("${jdbc.statement-budget.default}")
+    private int defaultStatementBudget;
+    @Value("${jdbc.statement-budget.reject}")
+    private boolean rejectOverStatementBudget;
+
+    /**
+     * DataSource 를 감싸 엔드포인트별 커넥션 점유 시간(db.connection.hold)을 기록
+     * /actuator/metrics/db.connection.hold?tag=uri:/api/v1/users/login 형태로 확인
+     */
+    @Bean
+    public static BeanPostProcessor connectionHoldTimeDataSourcePostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionHoldTimeDataSource)) {
+                    return new ConnectionHoldTimeDataSource(dataSource, meterRegistry);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * 스프링 부트 기본 JSON 컨버터 대신 등록하여 응답 직렬화 시간(request.phase, phase=serialize)을 기록
+     */
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new TimedJackson2HttpMessageConverter(objectMapper, new PhaseTimer(meterRegistry, PhaseTimer.SERIALIZE));
+    }
+
+    /**
+     * 요청별 SQL 문 수 제한 (엔드포인트별 허용 수는 @StatementBudget)
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new StatementBudgetInterceptor(defaultStatementBudget, rejectOverStatementBudget));
+    }
+}
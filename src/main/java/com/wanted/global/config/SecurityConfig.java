@@ -3,7 +3,12 @@ package com.wanted.global.config;
 import com.wanted.global.filter.CustomAuthenticationEntryPointHandler;
 import com.wanted.global.filter.ExceptionHandlerFilter;
 import com.wanted.global.filter.JwtAuthenticationFilter;
+import com.wanted.global.filter.VerifiedTokenCache;
+import com.wanted.global.metrics.PhaseTimer;
+import com.wanted.global.util.JwtProvider;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -12,16 +17,32 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 
 import static org.springframework.security.config.http.SessionCreationPolicy.STATELESS;
+import static org.springframework.security.web.util.matcher.AntPathRequestMatcher.antMatcher;
 
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
+    /**
+     * 인증이 필요한 요청 : 게시글 작성 · 수정 · 삭제
+     * 그 외 요청(게시글 조회 등)은 JwtAuthenticationFilter 에서 토큰을 확인하지 않음
+     */
+    private static final RequestMatcher AUTHENTICATED_REQUESTS = new OrRequestMatcher(
+            antMatcher(HttpMethod.POST, "/api/v1/posts/**"),
+            antMatcher(HttpMethod.PUT, "/api/v1/posts/**"),
+            antMatcher(HttpMethod.DELETE, "/api/v1/posts/**")
+    );
+
+    private final JwtProvider jwtProvider;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    @Value("${jwt.cache.maximum-size}")
+    private long tokenCacheMaximumSize;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -30,12 +51,11 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(session -> session.sessionCreationPolicy(STATELESS))
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers(HttpMethod.POST, "api/v1/posts").authenticated()
-                        .requestMatchers(HttpMethod.PUT, "api/v1/posts/**").authenticated()
-                        .requestMatchers(HttpMethod.DELETE, "api/v1/posts/**").authenticated()
+                        .requestMatchers(AUTHENTICATED_REQUESTS).authenticated()
                         .anyRequest().permitAll())
                 .exceptionHandling(handler -> handler.authenticationEntryPoint(new CustomAuthenticationEntryPointHandler()))
-                .addFilterBefore(new JwtAuthenticationFilter(secretKey), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new JwtAuthenticationFilter(jwtProvider, new VerifiedTokenCache(tokenCacheMaximumSize), AUTHENTICATED_REQUESTS,
+                        new PhaseTimer(meterRegistry, PhaseTimer.TOKEN_VERIFY)), UsernamePasswordAuthenticationFilter.class)
                 .addFilterBefore(new ExceptionHandlerFilter(), JwtAuthenticationFilter.class)
                 .build();
     }
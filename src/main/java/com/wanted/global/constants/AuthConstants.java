@@ -0,0 +1,6 @@
+package com.wanted.global.constants;
+
+public class AuthConstants {
+    // 비밀번호 해싱 작업이 가득 찬 경우 재시도 안내 시간(초)
+    public static final long HASHING_RETRY_AFTER_SECONDS = 1;
+}
@@ -0,0 +1,5 @@
+package com.wanted.global.constants;
+
+public class CacheConstants {
+    public static final String POST_CACHE = "post";
+}
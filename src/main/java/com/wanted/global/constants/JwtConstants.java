@@ -2,4 +2,6 @@ package com.wanted.global.constants;
 
 public class JwtConstants {
     public static final long TOKEN_VALID_MILLIS = 1000L * 60 * 60;
+    // 회원 id claim 이름
+    public static final String USER_ID_CLAIM = "userId";
 }
@@ -0,0 +1,6 @@
+package com.wanted.global.constants;
+
+public class PageConstants {
+    public static final int DEFAULT_CURSOR_PAGE_SIZE = 20;
+    public static final int MAX_CURSOR_PAGE_SIZE = 100;
+}
@@ -0,0 +1,11 @@
+package com.wanted.global.constants;
+
+public class PostConstants {
+    public static final int MAX_BULK_CREATE_SIZE = 5000;
+    public static final int EXPORT_FETCH_SIZE = 1000;
+    public static final int EXPORT_FLUSH_INTERVAL = 1000;
+    // 동시 내보내기 수를 초과한 경우 재시도 안내 시간(초)
+    public static final long EXPORT_RETRY_AFTER_SECONDS = 10;
+    // 검색 인덱스 생성 전 검색 요청의 재시도 안내 시간(초)
+    public static final long SEARCH_RETRY_AFTER_SECONDS = 5;
+}
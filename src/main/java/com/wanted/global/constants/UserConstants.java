@@ -0,0 +1,6 @@
+package com.wanted.global.constants;
+
+public class UserConstants {
+    public static final int EMAIL_FETCH_SIZE = 1000;
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_user_email";
+}
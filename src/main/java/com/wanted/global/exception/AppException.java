@@ -2,12 +2,57 @@ package com.wanted.global.exception;
 
 import lombok.Getter;
 
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 비즈니스 에러 : ExceptionManager 는 ErrorCode 만 사용하므로 기본적으로 stack trace 를 기록하지 않음
+ * ErrorCode 만 있는 예외는 of() 로 ErrorCode 별 공유 인스턴스를 사용 (stack trace · suppressed 모두 기록하지 않으므로 변경 불가)
+ * 디버깅 시 JVM 옵션 -Dexception.stack-trace=true 로 실행하면 매번 stack trace 를 기록한 새 인스턴스를 생성
+ * (클래스 로딩 시 한 번만 읽으므로 실행 중에는 변경되지 않음)
+ */
 @Getter
 public class AppException extends RuntimeException{
-    private ErrorCode errorCode;
+
+    private static final boolean STACK_TRACE_ENABLED = Boolean.getBoolean("exception.stack-trace");
+
+    private static final Map<ErrorCode, AppException> SHARED = createShared();
+
+    private final ErrorCode errorCode;
+    // 재시도 가능한 시점(초), Retry-After 헤더로 전달
+    private final Long retryAfterSeconds;
 
     public AppException(ErrorCode errorCode) {
+        this(errorCode, null, STACK_TRACE_ENABLED);
+    }
+
+    public AppException(ErrorCode errorCode, long retryAfterSeconds) {
+        this(errorCode, retryAfterSeconds, STACK_TRACE_ENABLED);
+    }
+
+    private AppException(ErrorCode errorCode, Long retryAfterSeconds, boolean writableStackTrace) {
+        super(errorCode.getMessage(), null, false, writableStackTrace);
         this.errorCode = errorCode;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * ErrorCode 별 공유 인스턴스 반환 (stack trace 기록 설정 시에는 새 인스턴스)
+     */
+    public static AppException of(ErrorCode errorCode) {
+        return of(errorCode, STACK_TRACE_ENABLED);
+    }
+
+    static AppException of(ErrorCode errorCode, boolean stackTraceEnabled) {
+        return stackTraceEnabled ? new AppException(errorCode, null, true) : SHARED.get(errorCode);
+    }
+
+    private static Map<ErrorCode, AppException> createShared() {
+        Map<ErrorCode, AppException> shared = new EnumMap<>(ErrorCode.class);
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            shared.put(errorCode, new AppException(errorCode, null, false));
+        }
+        return shared;
     }
 
 }
@@ -1,12 +0,0 @@
-package com.wanted.global.exception;
-
-import lombok.AllArgsConstructor;
-import lombok.Getter;
-
-@Getter
-@AllArgsConstructor
-public class BindingException extends RuntimeException{
-
-    private String message;
-
-}
\ No newline at end of file
@@ -13,7 +13,15 @@ public enum ErrorCode {
     POST_NOT_FOUND(HttpStatus.NOT_FOUND, "게시글을 찾을 수 없습니다."),
     WRONG_PASSWORD(HttpStatus.UNAUTHORIZED, "비밀번호가 일치하지 않습니다."),
     USER_NOT_MATCH(HttpStatus.UNAUTHORIZED, "작성자 본인만 요청할 수 있습니다."),
-    INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "유효한 토큰이 아닙니다.");
+    INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "유효한 토큰이 아닙니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효한 커서가 아닙니다."),
+    BULK_SIZE_EXCEEDED(HttpStatus.BAD_REQUEST, "한 번에 작성할 수 있는 게시글 수를 초과했습니다."),
+    VERSION_NOT_MATCH(HttpStatus.PRECONDITION_FAILED, "게시글이 다른 요청에 의해 변경되었습니다. 다시 조회 후 요청해주세요."),
+    AUTH_OVERLOADED(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    EXPORT_OVERLOADED(HttpStatus.SERVICE_UNAVAILABLE, "진행 중인 내보내기 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    SEARCH_NOT_READY(HttpStatus.SERVICE_UNAVAILABLE, "검색을 준비 중입니다. 잠시 후 다시 시도해주세요."),
+    TOO_MANY_LOGIN_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS, "로그인 시도 횟수를 초과했습니다. 잠시 후 다시 시도해주세요."),
+    STATEMENT_BUDGET_EXCEEDED(HttpStatus.INTERNAL_SERVER_ERROR, "요청 처리에 허용된 쿼리 수를 초과했습니다.");
 
 
     private HttpStatus httpStatus;
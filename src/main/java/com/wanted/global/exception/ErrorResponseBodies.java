@@ -0,0 +1,58 @@
+package com.wanted.global.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wanted.global.Response;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * ErrorCode 별 에러 응답 본문({"message":"ERROR","result":"에러 메세지"})을 UTF-8 바이트로 미리 직렬화
+ * 에러 응답마다 ObjectMapper 생성 · 직렬화 없이 같은 바이트 배열을 그대로 전송
+ */
+public final class ErrorResponseBodies {
+
+    public static final String CONTENT_TYPE = "application/json;charset=UTF-8";
+
+    private static final Map<ErrorCode, byte[]> BODIES = render();
+
+    private ErrorResponseBodies() {
+    }
+
+    /**
+     * 미리 직렬화된 본문 (호출한 쪽에서 수정하지 않아야 함)
+     */
+    public static byte[] of(ErrorCode errorCode) {
+        return BODIES.get(errorCode);
+    }
+
+    /**
+     * 필터 등 컨트롤러 밖에서 에러 응답 작성 : 상태 코드 · Content-Type · Content-Length 설정 후 본문을 그대로 출력
+     */
+    public static void write(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        byte[] body = BODIES.get(errorCode);
+
+        response.setStatus(errorCode.getHttpStatus().value());
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static Map<ErrorCode, byte[]> render() {
+        ObjectMapper mapper = new ObjectMapper();
+        Map<ErrorCode, byte[]> bodies = new EnumMap<>(ErrorCode.class);
+
+        try {
+            for (ErrorCode errorCode : ErrorCode.values()) {
+                bodies.put(errorCode, mapper.writeValueAsBytes(Response.error(errorCode.getMessage())));
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+
+        return bodies;
+    }
+}
@@ -1,8 +1,12 @@
 package com.wanted.global.exception;
 
 import com.wanted.global.Response;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
@@ -10,18 +14,41 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 @RestControllerAdvice
 public class ExceptionManager {
 
+    /**
+     * ErrorCode 에러 응답은 미리 직렬화된 본문을 그대로 전송 (ByteArrayHttpMessageConverter)
+     */
     @ExceptionHandler(AppException.class)
     public ResponseEntity<?> appExceptionHandler(AppException e) {
 
-        return ResponseEntity.status(e.getErrorCode().getHttpStatus())
-                .body(Response.error(e.getErrorCode().getMessage()));
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(e.getErrorCode().getHttpStatus());
 
+        if (e.getRetryAfterSeconds() != null) {
+            response.header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+        }
+
+        return response.contentType(MediaType.APPLICATION_JSON)
+                .body(ErrorResponseBodies.of(e.getErrorCode()));
+
+    }
+
+    /**
+     * 게시글 버전(@Version) 충돌 시, 먼저 커밋된 변경을 덮어쓰지 않고 412 응답
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<?> optimisticLockingFailureExceptionHandler(OptimisticLockingFailureException e) {
+        return ResponseEntity.status(ErrorCode.VERSION_NOT_MATCH.getHttpStatus())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ErrorResponseBodies.of(ErrorCode.VERSION_NOT_MATCH));
     }
 
-    @ExceptionHandler(BindingException.class)
-    public ResponseEntity<?> bindingExceptionHandler(BindingException e) {
+    /**
+     * Request Dto 유효성 검증(@Validated) 실패 시 첫 번째 필드 에러 메세지로 400 응답
+     * 검증은 @RequestBody 인자 변환 시 수행되므로 컨트롤러 메서드에 BindingResult 인자 · AOP 가 필요 없음
+     */
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<?> methodArgumentNotValidExceptionHandler(MethodArgumentNotValidException e) {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                .body(Response.error(e.getMessage()));
+                .body(Response.error(e.getBindingResult().getFieldError().getDefaultMessage()));
     }
 
 }
\ No newline at end of file
@@ -1,8 +1,7 @@
 package com.wanted.global.filter;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.wanted.global.Response;
 import com.wanted.global.exception.ErrorCode;
+import com.wanted.global.exception.ErrorResponseBodies;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -18,14 +17,8 @@ public class CustomAuthenticationEntryPointHandler implements AuthenticationEntr
         final String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
 
         if (authorization == null) {
-            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-            response.setContentType("application/json;charset=UTF-8");
-
-            Response<String> error = Response.error(ErrorCode.INVALID_TOKEN.getMessage());
-
-            ObjectMapper mapper = new ObjectMapper();
-            String responseBody = mapper.writeValueAsString(error);
-
-            response.getWriter().write(responseBody);        }
+            // 미리 직렬화된 에러 응답을 그대로 전송
+            ErrorResponseBodies.write(response, ErrorCode.INVALID_TOKEN);
+        }
     }
 }
@@ -1,8 +1,7 @@
 package com.wanted.global.filter;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.wanted.global.Response;
 import com.wanted.global.exception.ErrorCode;
+import com.wanted.global.exception.ErrorResponseBodies;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -17,16 +16,8 @@ public class ExceptionHandlerFilter extends OncePerRequestFilter {
         try {
             filterChain.doFilter(request, response);
         } catch (Exception e) {
-
-            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-            response.setContentType("application/json;charset=UTF-8");
-
-            Response<String> error = Response.error(ErrorCode.INVALID_TOKEN.getMessage());
-
-            ObjectMapper mapper = new ObjectMapper();
-            String responseBody = mapper.writeValueAsString(error);
-
-            response.getWriter().write(responseBody);
+            // 미리 직렬화된 에러 응답을 그대로 전송
+            ErrorResponseBodies.write(response, ErrorCode.INVALID_TOKEN);
         }
     }
 }
@@ -1,6 +1,8 @@
 package com.wanted.global.filter;
 
-import com.wanted.global.util.JwtUtil;
+import com.wanted.global.metrics.PhaseTimer;
+import com.wanted.global.security.AuthenticatedUser;
+import com.wanted.global.util.JwtProvider;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,19 +10,39 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.function.Supplier;
 
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final String secretKey;
+    private final JwtProvider jwtProvider;
+    private final VerifiedTokenCache tokenCache;
+    // 인증이 필요한 요청 : 그 외 요청은 토큰을 확인하지 않음
+    private final RequestMatcher authenticatedRequests;
+    // 토큰 확인 시간 기록 (request.phase, phase=token.verify)
+    private final PhaseTimer tokenVerifyTimer;
+
+    private final SecurityContextHolderStrategy securityContextHolderStrategy = SecurityContextHolder.getContextHolderStrategy();
+
+    /**
+     * 인증이 필요하지 않은 요청은 필터를 거치지 않음
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !authenticatedRequests.matches(request);
+    }
 
     /**
      * request 에서 전달받은 Jwt 토큰을 확인하는 과정
+     * 토큰 검증은 인가 과정 등에서 인증 정보를 처음 조회할 때 수행
      */
 
     @Override
@@ -37,23 +59,47 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        if (JwtUtil.isExpired(token, secretKey)) {
-            filterChain.doFilter(request, response);
-            return;
-        }
+        securityContextHolderStrategy.setDeferredContext(deferredContext(token, request));
+
+        filterChain.doFilter(request, response);
+    }
 
-        String email = JwtUtil.getUserEmail(token, secretKey);
+    /**
+     * 처음 조회될 때 한 번만 토큰을 확인하여 SecurityContext 를 생성
+     */
+    private Supplier<SecurityContext> deferredContext(String token, HttpServletRequest request) {
+        return new Supplier<>() {
+            private SecurityContext context;
+
+            @Override
+            public SecurityContext get() {
+                if (context == null) {
+                    context = createContext(token, request);
+                }
+                return context;
+            }
+        };
+    }
 
-        UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(email, null, null);
+    private SecurityContext createContext(String token, HttpServletRequest request) {
+        SecurityContext context = securityContextHolderStrategy.createEmptyContext();
 
-        authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        // 처음 보는 토큰만 서명 검증 · 파싱을 한 번 수행하고, 이후 같은 토큰은 캐시에서 확인
+        AuthenticatedUser user = tokenVerifyTimer.record(() -> tokenCache.getUser(token, jwtProvider::parse));
 
-        SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+        if (user == null) {
+            return context;
+        }
 
-        filterChain.doFilter(request, response);
-    }
+        // 회원 id 를 principal 에 담아 게시글 작성 · 수정 · 삭제 시 회원을 조회하지 않음
+        UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(user, null, null);
 
+        authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
+        context.setAuthentication(authenticationToken);
+
+        return context;
+    }
 
 
 }
@@ -0,0 +1,86 @@
+package com.wanted.global.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.wanted.global.security.AuthenticatedUser;
+import com.wanted.global.util.JwtProvider.TokenClaims;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 서명 검증을 마친 토큰의 회원 정보(회원 id · email) 캐시
+ * 토큰 원문 대신 SHA-256 digest 를 키로 저장하며, 각 항목은 토큰 만료 시각에 제거
+ * 같은 토큰으로 반복 요청 시 서명 검증 · 파싱 없이 회원 정보를 반환
+ */
+public class VerifiedTokenCache {
+
+    private final Cache<ByteBuffer, VerifiedToken> cache;
+
+    public VerifiedTokenCache(long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<ByteBuffer, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(ByteBuffer key, VerifiedToken value, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, value.expiresAt - System.currentTimeMillis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 캐시된 토큰이면 회원 정보를 바로 반환하고, 아니면 parser 로 한 번만 검증한 뒤 캐시
+     * email 이 없거나 만료된 토큰이면 null 반환, 위조된 토큰은 parser 의 예외를 그대로 전달
+     */
+    public AuthenticatedUser getUser(String token, Function<String, TokenClaims> parser) {
+        ByteBuffer key = digest(token);
+
+        VerifiedToken cached = cache.getIfPresent(key);
+        if (cached != null && cached.expiresAt > System.currentTimeMillis()) {
+            return cached.user;
+        }
+
+        TokenClaims claims = parser.apply(token);
+        if (claims.email() == null) {
+            return null;
+        }
+
+        AuthenticatedUser user = new AuthenticatedUser(claims.userId(), claims.email());
+        if (claims.expiresAt() == null) {
+            return user;
+        }
+        if (claims.expiresAt() <= System.currentTimeMillis()) {
+            return null;
+        }
+
+        cache.put(key, new VerifiedToken(user, claims.expiresAt()));
+        return user;
+    }
+
+    private ByteBuffer digest(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record VerifiedToken(AuthenticatedUser user, long expiresAt) {
+    }
+}
@@ -0,0 +1,108 @@
+package com.wanted.global.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커넥션을 가져온 시점부터 반환(close)할 때까지의 시간을 요청 엔드포인트별로 기록하는 DataSource
+ * 지표 이름 : db.connection.hold (태그 : method, uri)
+ * 커넥션에서 Statement 를 생성할 때마다 요청별 SQL 문 수(StatementCounter)도 증가
+ */
+public class ConnectionHoldTimeDataSource extends DelegatingDataSource {
+
+    public static final String METRIC_NAME = "db.connection.hold";
+    private static final String NO_REQUEST = "NONE";
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public ConnectionHoldTimeDataSource(DataSource targetDataSource, ObjectProvider<MeterRegistry> meterRegistry) {
+        super(targetDataSource);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(super.getConnection(username, password));
+    }
+
+    private Connection track(Connection connection) {
+        long acquiredAt = System.nanoTime();
+        String[] endpoint = currentEndpoint();
+
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, new InvocationHandler() {
+            private boolean closed = false;
+
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                if (method.getName().equals("close") && !closed) {
+                    closed = true;
+                    record(endpoint, System.nanoTime() - acquiredAt);
+                } else if (isStatementCreation(method)) {
+                    StatementCounter.increment();
+                }
+
+                try {
+                    return method.invoke(connection, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }
+        });
+    }
+
+    private boolean isStatementCreation(Method method) {
+        String name = method.getName();
+        return name.equals("prepareStatement") || name.equals("createStatement") || name.equals("prepareCall");
+    }
+
+    private void record(String[] endpoint, long heldNanos) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+
+        Timer.builder(METRIC_NAME)
+                .description("JDBC 커넥션 점유 시간")
+                .tag("method", endpoint[0])
+                .tag("uri", endpoint[1])
+                .register(registry)
+                .record(heldNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 현재 요청의 HTTP 메서드 · 매핑된 URI 패턴 (요청 밖에서 사용된 경우 NONE)
+     */
+    private String[] currentEndpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return new String[]{NO_REQUEST, NO_REQUEST};
+        }
+
+        HttpServletRequest request = servletAttributes.getRequest();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+        return new String[]{request.getMethod(), pattern == null ? UNKNOWN_URI : pattern.toString()};
+    }
+}
@@ -0,0 +1,60 @@
+package com.wanted.global.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 요청 처리 단계별 소요 시간을 기록하는 Timer
+ * 지표 이름 : request.phase (태그 : phase = token.verify · password.hash · serialize)
+ * DB 조회 시간은 spring.data.repository.invocations (태그 : repository, method) 로 기록
+ * MeterRegistry 는 처음 기록할 때 한 번만 조회하고, 이후에는 같은 Timer 를 재사용
+ */
+public class PhaseTimer {
+
+    public static final String METRIC_NAME = "request.phase";
+    public static final String TOKEN_VERIFY = "token.verify";
+    public static final String PASSWORD_HASH = "password.hash";
+    public static final String SERIALIZE = "serialize";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final String phase;
+    private volatile Timer timer;
+
+    public PhaseTimer(ObjectProvider<MeterRegistry> meterRegistry, String phase) {
+        this.meterRegistry = meterRegistry;
+        this.phase = phase;
+    }
+
+    public <T> T record(Supplier<T> task) {
+        long startedAt = System.nanoTime();
+        try {
+            return task.get();
+        } finally {
+            record(System.nanoTime() - startedAt);
+        }
+    }
+
+    public void record(long elapsedNanos) {
+        timer().record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * MeterRegistry 빈이 없으면 (슬라이스 테스트 등) 전역 registry 사용
+     */
+    private Timer timer() {
+        Timer timer = this.timer;
+        if (timer == null) {
+            timer = Timer.builder(METRIC_NAME)
+                    .description("요청 처리 단계별 소요 시간")
+                    .tag("phase", phase)
+                    .register(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+            this.timer = timer;
+        }
+        return timer;
+    }
+}
@@ -0,0 +1,55 @@
+package com.wanted.global.metrics;
+
+import com.wanted.global.annotation.StatementBudget;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청마다 실행한 SQL 문 수를 세고, 엔드포인트별 허용 수(@StatementBudget)를 초과하면 경고 로그 기록 또는 요청 실패
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class StatementBudgetInterceptor implements AsyncHandlerInterceptor {
+
+    private final int defaultBudget;
+    private final boolean reject;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        StatementCounter.start(budgetOf(handler), reject);
+        return true;
+    }
+
+    /**
+     * 비동기 요청은 요청 스레드를 반환하기 전에 측정 종료 (비동기 처리 완료 후 재요청(dispatch) 시 다시 측정)
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        StatementCounter.stop();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        StatementCounter counter = StatementCounter.stop();
+
+        if (counter != null && counter.isExceeded()) {
+            log.warn("요청 1건의 SQL 문 수 초과 : {} {} - {}건 (허용 {}건)", request.getMethod(),
+                    request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE), counter.getCount(), counter.getBudget());
+        }
+    }
+
+    private int budgetOf(Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            StatementBudget statementBudget = handlerMethod.getMethodAnnotation(StatementBudget.class);
+            if (statementBudget != null) {
+                return statementBudget.value();
+            }
+        }
+        return defaultBudget;
+    }
+}
@@ -0,0 +1,66 @@
+package com.wanted.global.metrics;
+
+import com.wanted.global.exception.AppException;
+import com.wanted.global.exception.ErrorCode;
+
+/**
+ * 요청 1건에서 생성한 JDBC Statement 수 (조회 결과 건마다 추가 조회가 발생하는 N+1 문제 감지)
+ * ConnectionHoldTimeDataSource 의 커넥션이 Statement 를 생성할 때마다 현재 스레드의 카운터를 증가
+ * 측정을 시작하지 않은 스레드(비밀번호 해싱 스레드 풀 등)에서 생성한 Statement 는 세지 않음
+ */
+public final class StatementCounter {
+
+    private static final ThreadLocal<StatementCounter> CURRENT = new ThreadLocal<>();
+
+    private final int budget;
+    private final boolean reject;
+    private int count = 0;
+
+    private StatementCounter(int budget, boolean reject) {
+        this.budget = budget;
+        this.reject = reject;
+    }
+
+    /**
+     * 현재 스레드에서 측정 시작
+     * reject 가 true 면 허용 수를 초과하는 Statement 생성 시 SQL 을 실행하지 않고 예외 발생
+     */
+    public static StatementCounter start(int budget, boolean reject) {
+        StatementCounter counter = new StatementCounter(budget, reject);
+        CURRENT.set(counter);
+        return counter;
+    }
+
+    /**
+     * 현재 스레드의 측정 종료 (측정 중이 아니면 null)
+     */
+    public static StatementCounter stop() {
+        StatementCounter counter = CURRENT.get();
+        CURRENT.remove();
+        return counter;
+    }
+
+    static void increment() {
+        StatementCounter counter = CURRENT.get();
+        if (counter == null) {
+            return;
+        }
+
+        counter.count++;
+        if (counter.reject && counter.count > counter.budget) {
+            throw AppException.of(ErrorCode.STATEMENT_BUDGET_EXCEEDED);
+        }
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getBudget() {
+        return budget;
+    }
+
+    public boolean isExceeded() {
+        return count > budget;
+    }
+}
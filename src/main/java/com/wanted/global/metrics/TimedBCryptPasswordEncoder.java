@@ -0,0 +1,25 @@
+package com.wanted.global.metrics;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 비밀번호 해싱 · 비교 시간을 request.phase (phase = password.hash) 로 기록하는 BCryptPasswordEncoder
+ */
+public class TimedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private final PhaseTimer phaseTimer;
+
+    public TimedBCryptPasswordEncoder(PhaseTimer phaseTimer) {
+        this.phaseTimer = phaseTimer;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return phaseTimer.record(() -> super.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return phaseTimer.record(() -> super.matches(rawPassword, encodedPassword));
+    }
+}
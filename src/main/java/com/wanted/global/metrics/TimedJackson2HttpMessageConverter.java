@@ -0,0 +1,32 @@
+package com.wanted.global.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * 응답 본문 JSON 직렬화 시간을 request.phase (phase = serialize) 로 기록하는 메세지 컨버터
+ * 미리 직렬화된 에러 응답(byte[])은 ByteArrayHttpMessageConverter 로 전송되므로 기록하지 않음
+ */
+public class TimedJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final PhaseTimer phaseTimer;
+
+    public TimedJackson2HttpMessageConverter(ObjectMapper objectMapper, PhaseTimer phaseTimer) {
+        super(objectMapper);
+        this.phaseTimer = phaseTimer;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        long startedAt = System.nanoTime();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            phaseTimer.record(System.nanoTime() - startedAt);
+        }
+    }
+}
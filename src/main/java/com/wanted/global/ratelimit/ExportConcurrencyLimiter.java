@@ -0,0 +1,39 @@
+package com.wanted.global.ratelimit;
+
+import com.wanted.global.exception.AppException;
+import com.wanted.global.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+
+import static com.wanted.global.constants.PostConstants.EXPORT_RETRY_AFTER_SECONDS;
+
+/**
+ * 게시글 내보내기 동시 실행 수 제한
+ * 내보내기는 클라이언트가 모두 읽을 때까지 커넥션 1개로 DB 스트리밍 커서를 유지하므로,
+ * 느린 클라이언트가 커넥션 풀을 모두 점유하지 않도록 max-concurrent 건까지만 허용하고 초과 시 DB 조회 없이 503 으로 거절
+ */
+@Component
+public class ExportConcurrencyLimiter {
+
+    private final Semaphore permits;
+
+    public ExportConcurrencyLimiter(@Value("${post.export.max-concurrent}") int maxConcurrent) {
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * 내보내기 시작, 허용 수를 초과하면 재시도 가능 시간과 함께 EXPORT_OVERLOADED 예외 발생
+     * 성공한 경우 내보내기가 끝나면 반드시 release 호출
+     */
+    public void acquire() {
+        if (!permits.tryAcquire()) {
+            throw new AppException(ErrorCode.EXPORT_OVERLOADED, EXPORT_RETRY_AFTER_SECONDS);
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+}
@@ -0,0 +1,74 @@
+package com.wanted.global.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wanted.global.exception.AppException;
+import com.wanted.global.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 로그인 시도 횟수 제한 : 계정(email) · 클라이언트 IP 별 토큰 버킷
+ * 버킷은 Caffeine 캐시에 저장하여 일정 시간 사용되지 않으면 제거하고, 전체 키 개수도 제한 (임의의 email 로 메모리를 채우는 요청 방지)
+ * 제한을 초과한 요청은 DB 조회 · 비밀번호 해싱 없이 429 로 거절
+ */
+@Component
+public class LoginRateLimiter {
+
+    private static final String ACCOUNT_KEY_PREFIX = "email:";
+    private static final String IP_KEY_PREFIX = "ip:";
+
+    private final long accountCapacity;
+    private final long ipCapacity;
+    private final long refillPeriodNanos;
+    private final LongSupplier nanoClock;
+    private final Cache<String, TokenBucket> buckets;
+
+    @Autowired
+    public LoginRateLimiter(@Value("${auth.login-rate-limit.account-capacity}") long accountCapacity,
+                            @Value("${auth.login-rate-limit.ip-capacity}") long ipCapacity,
+                            @Value("${auth.login-rate-limit.refill-period}") Duration refillPeriod,
+                            @Value("${auth.login-rate-limit.idle-timeout}") Duration idleTimeout,
+                            @Value("${auth.login-rate-limit.maximum-keys}") long maximumKeys) {
+        this(accountCapacity, ipCapacity, refillPeriod, idleTimeout, maximumKeys, System::nanoTime);
+    }
+
+    LoginRateLimiter(long accountCapacity, long ipCapacity, Duration refillPeriod, Duration idleTimeout, long maximumKeys, LongSupplier nanoClock) {
+        this.accountCapacity = accountCapacity;
+        this.ipCapacity = ipCapacity;
+        this.refillPeriodNanos = refillPeriod.toNanos();
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterAccess(idleTimeout)
+                .build();
+    }
+
+    /**
+     * IP · 계정 버킷에서 각각 토큰 1개를 사용, 하나라도 부족하면 재시도 가능 시간과 함께 TOO_MANY_LOGIN_ATTEMPTS 예외 발생
+     * 이메일이 없으면 IP 버킷만 사용
+     */
+    public void check(String email, String clientIp) {
+        long now = nanoClock.getAsLong();
+
+        acquire(IP_KEY_PREFIX + clientIp, ipCapacity, now);
+        if (email != null) {
+            acquire(ACCOUNT_KEY_PREFIX + email.toLowerCase(Locale.ROOT), accountCapacity, now);
+        }
+    }
+
+    private void acquire(String key, long capacity, long now) {
+        long waitNanos = buckets.get(key, k -> new TokenBucket(capacity, refillPeriodNanos, now))
+                .tryAcquire(now);
+
+        if (waitNanos > 0) {
+            throw new AppException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS, Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1)));
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.wanted.global.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 없이 CAS 로 동작하는 토큰 버킷
+ * 남은 토큰 수 대신 "버킷이 가득 차는 시각"(theoretical arrival time) 하나만 저장 (GCRA)
+ * 토큰 1개를 사용할 때마다 그 시각이 토큰 1개가 채워지는 시간만큼 뒤로 밀리며, 현재 시각보다 capacity 개 이상 뒤로 밀리면 거절
+ */
+final class TokenBucket {
+
+    // 토큰 1개가 채워지는 시간
+    private final long intervalNanos;
+    // 버킷 크기만큼의 토큰이 채워지는 시간
+    private final long burstNanos;
+    private final AtomicLong fullAt;
+
+    TokenBucket(long capacity, long refillPeriodNanos, long now) {
+        this.intervalNanos = Math.max(1, refillPeriodNanos / capacity);
+        this.burstNanos = intervalNanos * capacity;
+        this.fullAt = new AtomicLong(now);
+    }
+
+    /**
+     * 토큰 1개 사용, 성공 시 0 · 실패 시 토큰이 생길 때까지 기다려야 하는 시간(nanos) 반환
+     */
+    long tryAcquire(long now) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + intervalNanos;
+            long waitNanos = next - now - burstNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
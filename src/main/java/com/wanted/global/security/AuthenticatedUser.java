@@ -0,0 +1,22 @@
+package com.wanted.global.security;
+
+import org.springframework.security.core.Authentication;
+
+import java.security.Principal;
+
+/**
+ * JWT 에서 확인한 인증된 회원 (회원 id · email)
+ * 회원 id 가 포함되기 전에 발급된 토큰은 userId 가 null
+ * Principal 을 구현하므로 Authentication.getName() 은 email 을 반환
+ */
+public record AuthenticatedUser(Long userId, String email) implements Principal {
+
+    public static AuthenticatedUser from(Authentication authentication) {
+        return (AuthenticatedUser) authentication.getPrincipal();
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -10,12 +10,20 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.util.List;
+
+import static com.wanted.global.constants.PageConstants.DEFAULT_CURSOR_PAGE_SIZE;
 
 @Tag(name = "Post", description = "게시글 정보 관련 API")
 public interface PostApiSpecification {
@@ -33,15 +41,30 @@ public interface PostApiSpecification {
     @PostMapping
     ResponseEntity<Response<PostCreateResponse>> create(@RequestBody PostCreateRequest requestDto, Authentication authentication);
 
-    @Operation(summary = "게시글 단건 조회", description = "💡게시글을 단건 조회합니다.<br>🚨게시글이 존재하지 않을 시 에러 발생")
+    @Operation(summary = "게시글 일괄 작성", description = "<strong>🔑JWT 필요</strong><br>💡게시글을 한 번에 최대 5000개까지 작성합니다.<br>🚨가입된 회원이 존재하지 않을 시 · 최대 개수 초과 시 에러 발생")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "⭕ SUCCESS", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    examples = {@ExampleObject(value = "{\"message\":\"SUCCESS\",\"result\":{\"userId\": 1, \"createdCount\": 2, \"postIds\": [1, 2]}}")}, schema = @Schema(implementation = Response.class))),
+            @ApiResponse(responseCode = "400", description = "❌ ERROR (최대 개수 초과 시)", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    examples = {@ExampleObject(value = "{\"message\":\"ERROR\",\"result\":\"한 번에 작성할 수 있는 게시글 수를 초과했습니다.\"}")}, schema = @Schema(implementation = Response.class))),
+            @ApiResponse(responseCode = "401", description = "❌ ERROR (유효하지 않은 JWT 전달 시)", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    examples = {@ExampleObject(value = "{\"message\":\"ERROR\",\"result\":\"유효한 토큰이 아닙니다.\"}")}, schema = @Schema(implementation = Response.class))),
+            @ApiResponse(responseCode = "404", description = "❌ ERROR (가입된 회원이 존재하지 않을 시)", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    examples = {@ExampleObject(value = "{\"message\":\"ERROR\",\"result\":\"가입된 회원을 찾을 수 없습니다.\"}")}, schema = @Schema(implementation = Response.class)))
+    })
+    @PostMapping("/bulk")
+    ResponseEntity<Response<PostBulkCreateResponse>> createBulk(@RequestBody List<PostCreateRequest> requestDtos, Authentication authentication);
+
+    @Operation(summary = "게시글 단건 조회", description = "💡게시글을 단건 조회합니다.<br>💡응답의 ETag 를 If-None-Match 헤더로 전달하면, 변경되지 않은 게시글은 본문 없이 304 로 응답합니다.<br>🚨게시글이 존재하지 않을 시 에러 발생")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "⭕ SUCCESS", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                     examples = {@ExampleObject(value = "{\"message\":\"SUCCESS\",\"result\":{\"postId\":1,\"author\":\"author\",\"title\":\"title\",\"body\":\"body\"}}")}, schema = @Schema(implementation = Response.class))),
+            @ApiResponse(responseCode = "304", description = "⭕ NOT MODIFIED (If-None-Match 의 ETag 와 게시글 버전이 일치할 시)"),
             @ApiResponse(responseCode = "404", description = "❌ ERROR (게시글이 존재하지 않을 시)", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                     examples = {@ExampleObject(value = "{\"message\":\"ERROR\",\"result\":\"게시글을 찾을 수 없습니다.\"}")}, schema = @Schema(implementation = Response.class)))
     })
     @GetMapping("/{postId}")
-    ResponseEntity<Response<PostGetResponse>> get(@PathVariable(name = "postId") Long postId);
+    ResponseEntity<Response<PostGetResponse>> get(@PathVariable(name = "postId") Long postId, @Parameter(hidden = true) WebRequest webRequest);
 
     @Operation(summary = "게시글 조회", description = "💡모든 게시글을 페이지로 조회합니다.")
     @ApiResponses(value = {
@@ -51,28 +74,67 @@ public interface PostApiSpecification {
     @GetMapping
     ResponseEntity<Response<Page<PostGetResponse>>> getPage(@Parameter(hidden = true) Pageable pageable);
 
-    @Operation(summary = "게시글 수정", description = "<strong>🔑JWT 필요</strong><br>💡게시글을 수정합니다.<br>🚨가입된 회원이 존재하지 않을 시 · 게시글이 존재하지 않을 시 · 본인 게시글 수정 요청이 아닐시 에러 발생")
+    @Operation(summary = "게시글 커서 조회", description = "💡게시글을 최신순으로 커서 단위 조회합니다.<br>💡응답의 nextCursor 를 after 로, prevCursor 를 before 로 전달하면 다음 · 이전 게시글을 조회합니다." +
+            "<br>🚨after 와 before 를 동시에 전달하거나 유효하지 않은 커서 전달 시 에러 발생")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "⭕ SUCCESS", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    examples = {@ExampleObject(value = "{\"message\":\"SUCCESS\",\"result\":{\"content\":[{\"postId\":2,\"author\":\"author\",\"title\":\"title\",\"body\":\"body\"}],\"nextCursor\":\"Mg\",\"prevCursor\":null}}")}, schema = @Schema(implementation = Response.class))),
+            @ApiResponse(responseCode = "400", description = "❌ ERROR (유효하지 않은 커서 전달 시)", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    examples = {@ExampleObject(value = "{\"message\":\"ERROR\",\"result\":\"유효한 커서가 아닙니다.\"}")}, schema = @Schema(implementation = Response.class)))
+    })
+    @GetMapping("/cursor")
+    ResponseEntity<Response<PostCursorResponse>> getCursorPage(@Parameter(description = "이 커서보다 오래된 게시글 조회") @RequestParam(name = "after", required = false) String after,
+                                                               @Parameter(description = "이 커서보다 최신 게시글 조회") @RequestParam(name = "before", required = false) String before,
+                                                               @Parameter(description = "조회할 게시글 수 (최대 100)") @RequestParam(name = "size", defaultValue = "" + DEFAULT_CURSOR_PAGE_SIZE) int size);
+
+    @Operation(summary = "게시글 검색", description = "💡제목과 본문에 검색어가 포함된 게시글을 관련도 순으로 페이지 조회합니다.<br>💡한글은 두 글자 단위, 영문 · 숫자는 단어 단위로 검색합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "⭕ SUCCESS", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    examples = {@ExampleObject(value = "{\"message\":\"SUCCESS\",\"result\":{\"content\":[{\"postId\":1,\"author\":\"author\",\"title\":\"title\",\"body\":\"body\"}],\"pageable\":{\"sort\":{\"empty\":true,\"sorted\":false,\"unsorted\":true},\"offset\":0,\"pageNumber\":0,\"pageSize\":20,\"unpaged\":false,\"paged\":true},\"totalPages\":1,\"totalElements\":1,\"last\":true,\"size\":20,\"number\":0,\"sort\":{\"empty\":true,\"sorted\":false,\"unsorted\":true},\"numberOfElements\":1,\"first\":true,\"empty\":false}}")}, schema = @Schema(implementation = Response.class))),
+            @ApiResponse(responseCode = "503", description = "❌ ERROR (애플리케이션 시작 후 검색 인덱스 생성 전인 경우, Retry-After 헤더의 시간(초) 이후 재시도)", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    examples = {@ExampleObject(value = "{\"message\":\"ERROR\",\"result\":\"검색을 준비 중입니다. 잠시 후 다시 시도해주세요.\"}")}, schema = @Schema(implementation = Response.class))),
+    })
+    @GetMapping("/search")
+    ResponseEntity<Response<Page<PostGetResponse>>> search(@Parameter(description = "검색어") @RequestParam(name = "q") String query, @Parameter(hidden = true) Pageable pageable);
+
+    @Operation(summary = "게시글 전체 내보내기", description = "💡모든 게시글을 한 줄에 하나씩 JSON(NDJSON) 으로 스트리밍합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "⭕ SUCCESS", content = @Content(mediaType = "application/x-ndjson",
+                    examples = {@ExampleObject(value = "{\"postId\":1,\"author\":\"author\",\"title\":\"title\",\"body\":\"body\"}\n{\"postId\":2,\"author\":\"author\",\"title\":\"title\",\"body\":\"body\"}")})),
+            @ApiResponse(responseCode = "503", description = "❌ ERROR (동시에 진행 중인 내보내기가 허용 수를 초과한 경우, Retry-After 헤더의 시간(초) 이후 재시도)", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    examples = {@ExampleObject(value = "{\"message\":\"ERROR\",\"result\":\"진행 중인 내보내기 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.\"}")}, schema = @Schema(implementation = Response.class))),
+    })
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    void export(@Parameter(hidden = true) HttpServletResponse response) throws IOException;
+
+    @Operation(summary = "게시글 수정", description = "<strong>🔑JWT 필요</strong><br>💡게시글을 수정합니다.<br>🚨가입된 회원이 존재하지 않을 시 · 게시글이 존재하지 않을 시 · 본인 게시글 수정 요청이 아닐시 에러 발생<br>💡If-Match 헤더로 조회 시 받은 ETag 를 전달하면 게시글이 그 사이 변경되지 않은 경우에만 수정하고, 수정된 게시글의 ETag 를 응답합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "⭕ SUCCESS", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                     examples = {@ExampleObject(value = "{\"message\":\"SUCCESS\",\"result\":{\"postId\":1, \"title\": \"update title\", \"body\": \"update body\" }}")}, schema = @Schema(implementation = Response.class))),
             @ApiResponse(responseCode = "401", description = "❌ ERROR (유효하지 않은 JWT 전달 시 · 작성자 본인이 요청하지 않는 경우)", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                     examples = {@ExampleObject(value = "{\"message\":\"ERROR\",\"result\":\"에러 메세지\"}")}, schema = @Schema(implementation = Response.class))),
             @ApiResponse(responseCode = "404", description = "❌ ERROR (가입된 회원이 존재하지 않을 시 · 게시글이 존재하지 않을 시)", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    examples = {@ExampleObject(value = "{\"message\":\"ERROR\",\"result\":\"에러 메세지\"}")}, schema = @Schema(implementation = Response.class))),
+            @ApiResponse(responseCode = "412", description = "❌ ERROR (If-Match 로 전달한 ETag 와 게시글 버전이 일치하지 않을 시 · 다른 요청이 먼저 게시글을 변경한 경우)", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                     examples = {@ExampleObject(value = "{\"message\":\"ERROR\",\"result\":\"에러 메세지\"}")}, schema = @Schema(implementation = Response.class)))
     })
     @PutMapping("/{postId}")
-    ResponseEntity<Response<PostUpdateResponse>> update(@RequestBody PostUpdateRequest requestDto, Authentication authentication, @PathVariable(name = "postId") Long postId);
+    ResponseEntity<Response<PostUpdateResponse>> update(@RequestBody PostUpdateRequest requestDto, Authentication authentication, @PathVariable(name = "postId") Long postId,
+                                                        @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch);
 
-    @Operation(summary = "게시글 삭제", description = "<strong>🔑JWT 필요</strong><br>💡게시글을 삭제합니다.<br>🚨가입된 회원이 존재하지 않을 시 · 게시글이 존재하지 않을 시 · 본인 게시글 삭제 요청이 아닐시 에러 발생")
+    @Operation(summary = "게시글 삭제", description = "<strong>🔑JWT 필요</strong><br>💡게시글을 삭제합니다.<br>🚨가입된 회원이 존재하지 않을 시 · 게시글이 존재하지 않을 시 · 본인 게시글 삭제 요청이 아닐시 에러 발생<br>💡If-Match 헤더로 조회 시 받은 ETag 를 전달하면 게시글이 그 사이 변경되지 않은 경우에만 삭제합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "⭕ SUCCESS", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
-                    examples = {@ExampleObject(value = "{\"message\":\"SUCCESS\",\"result\":{\"postId\":1, \"title\": \"title\", \"body\": \"body\" }}")}, schema = @Schema(implementation = Response.class))),
+                    examples = {@ExampleObject(value = "{\"message\":\"SUCCESS\",\"result\":{\"postId\":1}}")}, schema = @Schema(implementation = Response.class))),
             @ApiResponse(responseCode = "401", description = "❌ ERROR (유효하지 않은 JWT 전달 시 · 작성자 본인이 요청하지 않는 경우)", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                     examples = {@ExampleObject(value = "{\"message\":\"ERROR\",\"result\":\"에러 메세지\"}")}, schema = @Schema(implementation = Response.class))),
             @ApiResponse(responseCode = "404", description = "❌ ERROR (가입된 회원이 존재하지 않을 시 · 게시글이 존재하지 않을 시)", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    examples = {@ExampleObject(value = "{\"message\":\"ERROR\",\"result\":\"에러 메세지\"}")}, schema = @Schema(implementation = Response.class))),
+            @ApiResponse(responseCode = "412", description = "❌ ERROR (If-Match 로 전달한 ETag 와 게시글 버전이 일치하지 않을 시 · 다른 요청이 먼저 게시글을 변경한 경우)", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                     examples = {@ExampleObject(value = "{\"message\":\"ERROR\",\"result\":\"에러 메세지\"}")}, schema = @Schema(implementation = Response.class)))
     })
     @DeleteMapping("/{postId}")
-    ResponseEntity<Response<PostDeleteResponse>> delete(Authentication authentication, @PathVariable(name = "postId") Long postId);
+    ResponseEntity<Response<PostDeleteResponse>> delete(Authentication authentication, @PathVariable(name = "postId") Long postId,
+                                                        @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch);
 
 }
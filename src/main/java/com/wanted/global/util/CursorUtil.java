@@ -0,0 +1,33 @@
+package com.wanted.global.util;
+
+import com.wanted.global.exception.AppException;
+import com.wanted.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+
+public class CursorUtil {
+
+    /**
+     * post_id 를 클라이언트에게 전달할 불투명한(opaque) 커서 문자열로 변환
+     */
+    public static String encode(Long postId) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(String.valueOf(postId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 post_id 로 변환, 올바르지 않은 커서인 경우 에러 처리
+     */
+    public static Long decode(String cursor) {
+        try {
+            byte[] decoded = Base64.getUrlDecoder().decode(cursor);
+            return Long.parseLong(new String(decoded, StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw AppException.of(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.wanted.global.util;
+
+import com.wanted.domain.post.dto.PostGetResponse;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+
+public class ETagUtil {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long UNMATCHABLE_VERSION = -1L;
+
+    /**
+     * 게시글 단건 ETag : 게시글 id 와 버전으로 생성
+     */
+    public static String of(Long postId, Long version) {
+        return "\"" + postId + "-" + version + "\"";
+    }
+
+    /**
+     * If-Match 헤더에서 해당 게시글의 버전을 추출
+     * 헤더가 없거나 "*" 인 경우 null(버전 확인 없음), 해당 게시글의 strong ETag 가 없는 경우 어떤 버전과도 일치하지 않는 값을 반환
+     */
+    public static Long parseVersion(Long postId, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+
+        String prefix = postId + "-";
+        for (String etag : ifMatch.split(",")) {
+            String value = etag.trim();
+            if (value.startsWith("W/") || value.length() < 2 || !value.startsWith("\"") || !value.endsWith("\"")) {
+                continue;
+            }
+
+            value = value.substring(1, value.length() - 1);
+            if (value.startsWith(prefix)) {
+                try {
+                    return Long.parseLong(value.substring(prefix.length()));
+                } catch (NumberFormatException e) {
+                    return UNMATCHABLE_VERSION;
+                }
+            }
+        }
+
+        return UNMATCHABLE_VERSION;
+    }
+
+    /**
+     * 게시글 페이지 ETag : 페이지 정보와 페이지에 포함된 게시글의 id · 버전으로 생성
+     */
+    public static String of(Page<PostGetResponse> page) {
+        long hash = hash(FNV_OFFSET_BASIS, page.getNumber());
+        hash = hash(hash, page.getSize());
+        hash = hash(hash, page.getTotalElements());
+        hash = hash(hash, page.getSort().toString().hashCode());
+        return quote(hash(hash, page.getContent()));
+    }
+
+    /**
+     * 게시글 커서 페이지 ETag : 페이지에 포함된 게시글의 id · 버전과 이전 · 다음 커서로 생성
+     */
+    public static String of(List<PostGetResponse> posts, String nextCursor, String prevCursor) {
+        long hash = hash(FNV_OFFSET_BASIS, String.valueOf(nextCursor).hashCode());
+        hash = hash(hash, String.valueOf(prevCursor).hashCode());
+        return quote(hash(hash, posts));
+    }
+
+    private static long hash(long hash, List<PostGetResponse> posts) {
+        for (PostGetResponse post : posts) {
+            hash = hash(hash, post.getPostId());
+            hash = hash(hash, post.getVersion() == null ? -1L : post.getVersion());
+        }
+        return hash;
+    }
+
+    private static long hash(long hash, long value) {
+        for (int i = 0; i < Long.BYTES; i++) {
+            hash ^= (value >>> (i * 8)) & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static String quote(long hash) {
+        return "\"" + Long.toHexString(hash) + "\"";
+    }
+
+}
@@ -0,0 +1,200 @@
+package com.wanted.global.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.wanted.global.constants.JwtConstants;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.SignatureException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.impl.TextCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * HS256 JWT 발급 · 검증
+ * 서명 키(SecretKeySpec)는 생성 시 한 번만 만들고, Mac 은 스레드별로 재사용하여 요청마다 키 변환 · Mac 생성을 하지 않음
+ * 발급하는 토큰 형식은 JwtUtil(jjwt) 과 동일하므로 기존에 발급된 토큰도 그대로 검증 가능
+ */
+@Component
+public class JwtProvider {
+
+    private static final String ALGORITHM = "HS256";
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    // jjwt 와 동일한 헤더 : {"alg":"HS256"}
+    private static final String ENCODED_HEADER = encode("{\"alg\":\"" + ALGORITHM + "\"}".getBytes(StandardCharsets.UTF_8));
+
+    private final SecretKeySpec signingKey;
+    private final ThreadLocal<Mac> macs;
+
+    public JwtProvider(@Value("${jwt.secret}") String secretKey) {
+        // jjwt 의 signWith(SignatureAlgorithm, String) 과 동일하게 Base64 로 디코딩한 값을 키로 사용
+        this.signingKey = new SecretKeySpec(TextCodec.BASE64.decode(secretKey), MAC_ALGORITHM);
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    /**
+     * 회원 email 을 subject 로, 회원 id 를 userId claim 으로 하는 토큰 발급
+     */
+    public String createToken(Long userId, String email) {
+        long issuedAt = System.currentTimeMillis() / 1000;
+        long expiration = issuedAt + JwtConstants.TOKEN_VALID_MILLIS / 1000;
+
+        StringBuilder payload = new StringBuilder(64 + email.length())
+                .append("{\"sub\":\"");
+        appendEscaped(payload, email);
+        payload.append("\",\"").append(JwtConstants.USER_ID_CLAIM).append("\":").append(userId)
+                .append(",\"iat\":").append(issuedAt)
+                .append(",\"exp\":").append(expiration)
+                .append('}');
+
+        String content = ENCODED_HEADER + '.' + encode(payload.toString().getBytes(StandardCharsets.UTF_8));
+
+        return content + '.' + encode(sign(content));
+    }
+
+    /**
+     * 서명을 검증한 뒤 subject(email) · 회원 id · 만료 시각 반환
+     * 위조 · 형식 오류 · 만료된 토큰은 jjwt 와 같은 예외 발생
+     */
+    public TokenClaims parse(String token) {
+        int headerEnd = token.indexOf('.');
+        int payloadEnd = token.indexOf('.', headerEnd + 1);
+        if (headerEnd <= 0 || payloadEnd < 0 || token.indexOf('.', payloadEnd + 1) >= 0) {
+            throw new MalformedJwtException("JWT 형식이 아닙니다.");
+        }
+
+        String encodedHeader = token.substring(0, headerEnd);
+        if (!ENCODED_HEADER.equals(encodedHeader)) {
+            validateAlgorithm(decode(encodedHeader));
+        }
+
+        byte[] expectedSignature = sign(token.substring(0, payloadEnd));
+        byte[] signature = decode(token.substring(payloadEnd + 1));
+        if (!MessageDigest.isEqual(expectedSignature, signature)) {
+            throw new SignatureException("JWT 서명이 일치하지 않습니다.");
+        }
+
+        TokenClaims claims = readClaims(decode(token.substring(headerEnd + 1, payloadEnd)));
+        if (claims.expiresAt() != null && claims.expiresAt() <= System.currentTimeMillis()) {
+            throw new ExpiredJwtException(null, null, "JWT 가 만료되었습니다.");
+        }
+
+        return claims;
+    }
+
+    private byte[] sign(String content) {
+        return macs.get().doFinal(content.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(signingKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void validateAlgorithm(byte[] header) {
+        String algorithm = readString(header, "alg");
+        if (!ALGORITHM.equals(algorithm)) {
+            throw new UnsupportedJwtException("지원하지 않는 JWT 서명 알고리즘입니다 : " + algorithm);
+        }
+    }
+
+    private String readString(byte[] json, String fieldName) {
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            expectObject(parser);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                parser.nextToken();
+                if (fieldName.equals(name)) {
+                    return parser.getValueAsString();
+                }
+                parser.skipChildren();
+            }
+            return null;
+        } catch (IOException e) {
+            throw new MalformedJwtException("JWT 형식이 아닙니다.", e);
+        }
+    }
+
+    private TokenClaims readClaims(byte[] payload) {
+        String subject = null;
+        Long userId = null;
+        Long expiration = null;
+
+        try (JsonParser parser = JSON_FACTORY.createParser(payload)) {
+            expectObject(parser);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                parser.nextToken();
+                if ("sub".equals(name)) {
+                    subject = parser.getValueAsString();
+                } else if (JwtConstants.USER_ID_CLAIM.equals(name) && parser.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+                    userId = parser.getLongValue();
+                } else if ("exp".equals(name)) {
+                    expiration = parser.getLongValue() * 1000;
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw new MalformedJwtException("JWT 형식이 아닙니다.", e);
+        }
+
+        return new TokenClaims(subject, userId, expiration);
+    }
+
+    private void expectObject(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new MalformedJwtException("JWT 형식이 아닙니다.");
+        }
+    }
+
+    private static String encode(byte[] bytes) {
+        return ENCODER.encodeToString(bytes);
+    }
+
+    private static byte[] decode(String value) {
+        try {
+            return DECODER.decode(value);
+        } catch (IllegalArgumentException e) {
+            throw new MalformedJwtException("JWT 형식이 아닙니다.", e);
+        }
+    }
+
+    private static void appendEscaped(StringBuilder builder, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                builder.append('\\').append(c);
+            } else if (c < 0x20) {
+                builder.append(String.format("\\u%04x", (int) c));
+            } else {
+                builder.append(c);
+            }
+        }
+    }
+
+    /**
+     * 검증된 토큰의 subject(email) · 회원 id(없으면 null) · 만료 시각(epoch millis, 없으면 null)
+     */
+    public record TokenClaims(String email, Long userId, Long expiresAt) {
+    }
+}
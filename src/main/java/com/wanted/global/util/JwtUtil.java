@@ -10,13 +10,18 @@ import io.jsonwebtoken.SignatureAlgorithm;
 import java.util.Date;
 
 
+/**
+ * jjwt 기반 토큰 발급 · 검증
+ * 애플리케이션에서는 서명 키와 Mac 을 재사용하는 JwtProvider 를 사용하며, 테스트 토큰 생성 및 벤치마크 비교용으로 유지
+ */
 public class JwtUtil {
 
 
-    public static String createToken(String email, String secretKey) {
+    public static String createToken(Long userId, String email, String secretKey) {
 
         Claims claims = Jwts.claims()
                 .setSubject(email);
+        claims.put(JwtConstants.USER_ID_CLAIM, userId);
 
         return Jwts.builder()
                 .setClaims(claims)
@@ -27,6 +32,16 @@ public class JwtUtil {
 
     }
 
+    /**
+     * 서명 검증 · 파싱을 한 번만 수행하여 Claims 반환 (만료 · 위조 토큰은 예외 발생)
+     */
+    public static Claims getClaims(String token, String secretKey) {
+        return Jwts.parser()
+                .setSigningKey(secretKey)
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
     public static String getUserEmail(String token, String secretKey) {
         return Jwts.parser()
                 .setSigningKey(secretKey)
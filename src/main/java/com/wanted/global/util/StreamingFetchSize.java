@@ -0,0 +1,24 @@
+package com.wanted.global.util;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * 대량 조회 결과를 한 번에 메모리에 올리지 않고 나누어 읽기 위한 fetch size
+ * MySQL(Connector/J)은 fetch size 가 Integer.MIN_VALUE 인 쿼리만 행 단위로 스트리밍하며, 그 외 DB 는 지정한 크기 단위로 조회
+ * (URL 의 useCursorFetch 는 모든 쿼리를 서버 측 prepared statement 로 실행하게 하므로 사용하지 않고, 스트리밍 쿼리에만 적용)
+ * MySQL 스트리밍 중에는 같은 커넥션에서 다른 쿼리를 실행할 수 없으므로, 결과를 모두 읽거나 Stream 을 close 한 뒤 다른 쿼리 실행
+ */
+public class StreamingFetchSize {
+
+    public static int of(EntityManager em, int fetchSize) {
+        Dialect dialect = em.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect();
+
+        return dialect instanceof MySQLDialect ? Integer.MIN_VALUE : fetchSize;
+    }
+}
@@ -4,16 +4,39 @@ package com.wanted.service;
 import com.wanted.domain.post.Post;
 import com.wanted.domain.post.PostRepository;
 import com.wanted.domain.post.dto.*;
+import com.wanted.domain.post.search.PostSearchIndex;
+import com.wanted.domain.post.search.PostSearchResult;
 import com.wanted.domain.user.User;
 import com.wanted.domain.user.UserRepository;
 import com.wanted.global.exception.AppException;
 import com.wanted.global.exception.ErrorCode;
+import com.wanted.global.security.AuthenticatedUser;
+import com.wanted.global.util.CursorUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.wanted.global.constants.CacheConstants.POST_CACHE;
+import static com.wanted.global.constants.PageConstants.MAX_CURSOR_PAGE_SIZE;
+import static com.wanted.global.constants.PostConstants.MAX_BULK_CREATE_SIZE;
+import static com.wanted.global.constants.PostConstants.SEARCH_RETRY_AFTER_SECONDS;
+
 
 @Service
 @RequiredArgsConstructor
@@ -22,25 +45,56 @@ public class PostService {
 
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final PostSearchIndex postSearchIndex;
 
     /**
      * 게시글 작성
+     * 작성자는 토큰의 회원 id 로 만든 참조만 사용하므로 회원을 조회하지 않음
      */
-    public PostCreateResponse createPost(PostCreateRequest requestDto, String email) {
-        User foundUser = validateAndFindUserByEmail(email);
+    public PostCreateResponse createPost(PostCreateRequest requestDto, AuthenticatedUser authenticatedUser) {
+        User author = getAuthor(authenticatedUser);
+
+        Post savedPost = postRepository.save(requestDto.toEntity(author));
 
-        Post savedPost = postRepository.save(requestDto.toEntity(foundUser));
+        postSearchIndex.index(savedPost.getId(), savedPost.getTitle(), savedPost.getBody());
 
         return PostCreateResponse.from(savedPost);
     }
 
 
+    /**
+     * 게시글 일괄 작성
+     * 작성자 참조는 한 번만 만들고, 게시글은 multi-row insert 1회로 저장
+     */
+    public PostBulkCreateResponse createPosts(List<PostCreateRequest> requestDtos, AuthenticatedUser authenticatedUser) {
+        if (requestDtos.size() > MAX_BULK_CREATE_SIZE) {
+            throw AppException.of(ErrorCode.BULK_SIZE_EXCEEDED);
+        }
+
+        User author = getAuthor(authenticatedUser);
+
+        List<Post> posts = requestDtos.stream()
+                .map(requestDto -> requestDto.toEntity(author))
+                .toList();
+
+        List<Long> postIds = postRepository.insertAll(posts);
+
+        for (int i = 0; i < postIds.size(); i++) {
+            postSearchIndex.index(postIds.get(i), posts.get(i).getTitle(), posts.get(i).getBody());
+        }
+
+        return PostBulkCreateResponse.from(author, postIds);
+    }
+
     /**
      * 게시글 단건 조회
+     * 동일한 postId 로 동시에 캐시 미스가 발생하면 한 요청만 DB 를 조회하고, 나머지 요청은 그 결과를 공유
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = POST_CACHE, key = "#postId", sync = true)
     public PostGetResponse getPost(Long postId) {
-        return PostGetResponse.from(validateAndFindPostById(postId));
+        return postRepository.findPostGetResponseById(postId)
+                .orElseThrow(() -> AppException.of(ErrorCode.POST_NOT_FOUND));
     }
 
 
@@ -49,43 +103,154 @@ public class PostService {
      */
     @Transactional(readOnly = true)
     public Page<PostGetResponse> getPostPage(Pageable pageable) {
-        return postRepository.findAll(pageable)
-                .map(post -> PostGetResponse.from(post));
+        return postRepository.findPostGetResponses(pageable);
+    }
+
+    /**
+     * 게시글 커서 단위 조회
+     * after 커서는 더 오래된 게시글을, before 커서는 더 최신 게시글을 post_id 내림차순으로 조회
+     * 한 건을 더 조회하여 다음 페이지 존재 여부를 판단하므로 COUNT 쿼리가 발생하지 않음
+     */
+    @Transactional(readOnly = true)
+    public PostCursorResponse getPostCursorPage(String after, String before, int size) {
+        if (after != null && before != null) {
+            throw AppException.of(ErrorCode.INVALID_CURSOR);
+        }
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        if (before != null) {
+            List<PostGetResponse> foundPosts = postRepository.findPostGetResponsesByIdGreaterThan(CursorUtil.decode(before), limit);
+            boolean hasPrev = foundPosts.size() > pageSize;
+
+            List<PostGetResponse> content = trimToPageSize(foundPosts, pageSize);
+            Collections.reverse(content);
+
+            // before 커서보다 최신 게시글이 없으면 돌아갈 다음 페이지 커서도 만들지 않음
+            return PostCursorResponse.of(content, !content.isEmpty(), hasPrev);
+        }
+
+        List<PostGetResponse> foundPosts = (after == null)
+                ? postRepository.findPostGetResponsesOrderByIdDesc(limit)
+                : postRepository.findPostGetResponsesByIdLessThan(CursorUtil.decode(after), limit);
+        boolean hasNext = foundPosts.size() > pageSize;
+
+        return PostCursorResponse.of(trimToPageSize(foundPosts, pageSize), hasNext, after != null);
+    }
+
+    /**
+     * 게시글 검색
+     * 메모리 역색인에서 요청한 페이지의 postId 만 점수 순으로 구한 뒤, 해당 게시글만 DB 에서 조회
+     * 인덱스 생성이 끝나기 전에는 DB 를 조회하지 않고 503 · Retry-After 로 거절
+     */
+    @Transactional(readOnly = true)
+    public Page<PostGetResponse> searchPosts(String query, Pageable pageable) {
+        if (!postSearchIndex.isReady()) {
+            throw new AppException(ErrorCode.SEARCH_NOT_READY, SEARCH_RETRY_AFTER_SECONDS);
+        }
+
+        PostSearchResult result = postSearchIndex.search(query, pageable.getOffset(), pageable.getPageSize());
+
+        if (result.getPostIds().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, result.getTotalHits());
+        }
+
+        Map<Long, PostGetResponse> foundPosts = postRepository.findPostGetResponsesByIdIn(result.getPostIds())
+                .stream()
+                .collect(Collectors.toMap(PostGetResponse::getPostId, Function.identity()));
+
+        List<PostGetResponse> content = result.getPostIds().stream()
+                .map(foundPosts::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new PageImpl<>(content, pageable, result.getTotalHits());
+    }
+
+    /**
+     * 전체 게시글 내보내기
+     * 게시글을 메모리에 모으지 않고 DB 커서에서 읽는 즉시 한 건씩 전달
+     */
+    @Transactional(readOnly = true)
+    public void exportPosts(Consumer<PostGetResponse> consumer) {
+        try (Stream<PostGetResponse> posts = postRepository.streamAllPostGetResponses()) {
+            posts.forEach(consumer);
+        }
     }
 
     /**
      * 게시글 수정
+     * 작성자 · 버전(If-Match) 조건을 포함한 UPDATE 1회로 수정하고, 수정되지 않은 경우에만 원인을 조회
      */
-    public PostUpdateResponse updatePost(PostUpdateRequest requestDto, Long postId, String email) {
-        User foundUser = validateAndFindUserByEmail(email);
+    @CacheEvict(cacheNames = POST_CACHE, key = "#postId")
+    public PostUpdateResponse updatePost(PostUpdateRequest requestDto, Long postId, AuthenticatedUser authenticatedUser, Long expectedVersion) {
+        Long userId = getUserId(authenticatedUser);
 
-        Post foundPost = validateAndFindPostById(postId);
+        int updatedCount = postRepository.updateOwnedPost(postId, userId, expectedVersion, requestDto.getTitle(), requestDto.getBody());
 
-        // 게시글 작성자가 본인인지 확인
-        if (!foundPost.checkUser(foundUser)) {
-            throw new AppException(ErrorCode.USER_NOT_MATCH);
+        if (updatedCount == 0) {
+            throw writeFailure(postId, userId);
         }
 
-        foundPost.update(requestDto.getTitle(), requestDto.getBody());
+        postSearchIndex.index(postId, requestDto.getTitle(), requestDto.getBody());
 
-        return PostUpdateResponse.from(foundPost);
+        // 버전 조건 없이 수정한 경우 수정된 버전을 알 수 없으므로 추가 조회 없이 null 로 응답
+        Long updatedVersion = expectedVersion == null ? null : expectedVersion + 1;
+        return PostUpdateResponse.of(postId, requestDto, updatedVersion);
     }
 
     /**
      * 게시글 삭제
+     * 작성자 · 버전(If-Match) 조건을 포함한 DELETE 1회로 삭제하고, 삭제되지 않은 경우에만 원인을 조회
      */
-    public PostDeleteResponse deletePost(Long postId, String email) {
-        User foundUser = validateAndFindUserByEmail(email);
+    @CacheEvict(cacheNames = POST_CACHE, key = "#postId")
+    public PostDeleteResponse deletePost(Long postId, AuthenticatedUser authenticatedUser, Long expectedVersion) {
+        Long userId = getUserId(authenticatedUser);
+
+        int deletedCount = postRepository.deleteOwnedPost(postId, userId, expectedVersion);
 
+        if (deletedCount == 0) {
+            throw writeFailure(postId, userId);
+        }
+
+        postSearchIndex.remove(postId);
+
+        return PostDeleteResponse.from(postId);
+    }
+
+    /**
+     * 조건부 수정 · 삭제가 반영되지 않은 원인 확인
+     * 게시글 없음 → 작성자 불일치 순으로 확인하며, 모두 해당하지 않으면 버전이 일치하지 않은 경우
+     */
+    private AppException writeFailure(Long postId, Long userId) {
         Post foundPost = validateAndFindPostById(postId);
 
-        if (!foundPost.checkUser(foundUser)) {
-            throw new AppException(ErrorCode.USER_NOT_MATCH);
+        if (!foundPost.isWrittenBy(userId)) {
+            return AppException.of(ErrorCode.USER_NOT_MATCH);
         }
 
-        postRepository.delete(foundPost);
+        return AppException.of(ErrorCode.VERSION_NOT_MATCH);
+    }
+
+    /**
+     * 작성자 : 토큰에 회원 id 가 있으면 조회 없이 참조만 생성, 회원 id 가 없는 이전 토큰이면 email 로 조회
+     */
+    private User getAuthor(AuthenticatedUser authenticatedUser) {
+        if (authenticatedUser.userId() != null) {
+            return userRepository.getReferenceById(authenticatedUser.userId());
+        }
+        return validateAndFindUserByEmail(authenticatedUser.email());
+    }
 
-        return PostDeleteResponse.from(foundPost);
+    /**
+     * 회원 id : 토큰에 회원 id 가 없는 이전 토큰이면 email 로 조회
+     */
+    private Long getUserId(AuthenticatedUser authenticatedUser) {
+        if (authenticatedUser.userId() != null) {
+            return authenticatedUser.userId();
+        }
+        return validateAndFindUserByEmail(authenticatedUser.email()).getId();
     }
 
     /**
@@ -93,7 +258,7 @@ public class PostService {
      */
     private User validateAndFindUserByEmail(String email) {
         return userRepository.findByEmail(email)
-                .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND));
+                .orElseThrow(() -> AppException.of(ErrorCode.USER_NOT_FOUND));
     }
 
     /**
@@ -101,7 +266,14 @@ public class PostService {
      */
     private Post validateAndFindPostById(Long postId) {
         return postRepository.findById(postId)
-                .orElseThrow(() -> new AppException(ErrorCode.POST_NOT_FOUND));
+                .orElseThrow(() -> AppException.of(ErrorCode.POST_NOT_FOUND));
+    }
+
+    /**
+     * 다음 페이지 존재 여부 확인용으로 추가 조회한 게시글을 제외
+     */
+    private List<PostGetResponse> trimToPageSize(List<PostGetResponse> posts, int pageSize) {
+        return new ArrayList<>(posts.subList(0, Math.min(posts.size(), pageSize)));
     }
 
 
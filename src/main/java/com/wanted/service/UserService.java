@@ -1,43 +1,54 @@
 package com.wanted.service;
 
+import com.wanted.domain.user.RegisteredEmailFilter;
 import com.wanted.domain.user.User;
 import com.wanted.domain.user.UserRepository;
 import com.wanted.domain.user.dto.UserCreateRequest;
 import com.wanted.domain.user.dto.UserCreateResponse;
 import com.wanted.domain.user.dto.UserLoginRequest;
 import com.wanted.domain.user.dto.UserLoginResponse;
+import com.wanted.global.constants.UserConstants;
 import com.wanted.global.exception.AppException;
 import com.wanted.global.exception.ErrorCode;
-import com.wanted.global.util.JwtUtil;
+import com.wanted.global.util.JwtProvider;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Locale;
+
+/**
+ * BCrypt 해싱은 수행 시간이 길어 트랜잭션 밖에서 수행 (해싱 중 DB 커넥션을 점유하지 않음)
+ * 각 Repository 호출만 개별 트랜잭션으로 실행되므로 클래스 레벨 @Transactional 을 사용하지 않음
+ * 회원 가입 시 가입 이메일 filter 에 없는 이메일은 중복 확인 쿼리 없이 저장 (중복은 unique 제약 조건으로 확인)
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class UserService {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
-
     private final UserRepository userRepository;
 
     private final BCryptPasswordEncoder encryption;
 
+    private final JwtProvider jwtProvider;
+
+    private final RegisteredEmailFilter registeredEmailFilter;
+
     /**
      * 회원 가입
+     * 이메일 중복은 email unique 제약 조건으로 확인하므로 새 이메일은 INSERT 1회로 저장 (동시 가입 요청도 1건만 저장)
      */
     public UserCreateResponse createUser(UserCreateRequest requestDto) {
-        // 이메일 중복 확인
+        // 가입 이메일 filter 에 있는 경우에만 미리 확인하여, 이미 가입된 이메일은 비밀번호 암호화 전에 거절
         checkDuplicateEmail(requestDto.getEmail());
 
         // 비밀번호 암호화
         String encryptedPassword = encryption.encode(requestDto.getPassword());
 
-        User savedUser = userRepository.save(requestDto.toEntity(encryptedPassword));
+        User savedUser = saveUser(requestDto.toEntity(encryptedPassword));
+        registeredEmailFilter.put(savedUser.getEmail());
 
         return UserCreateResponse.from(savedUser);
     }
@@ -46,13 +57,40 @@ public class UserService {
      * 이메일이 중복되는지 확인, 중복되는 경우 에러 처리
      */
     private void checkDuplicateEmail(String email) {
-        if (userRepository.existsByEmail(email)) {
-            throw new AppException(ErrorCode.DUPLICATE_EMAIL);
+        if (registeredEmailFilter.mightContain(email) && userRepository.existsByEmail(email)) {
+            throw AppException.of(ErrorCode.DUPLICATE_EMAIL);
+        }
+    }
+
+    /**
+     * 회원 저장, email unique 제약 조건 위반 시 중복 에러 처리
+     */
+    private User saveUser(User user) {
+        try {
+            return userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateEmail(e)) {
+                throw AppException.of(ErrorCode.DUPLICATE_EMAIL);
+            }
+            throw e;
+        }
+    }
+
+    private boolean isDuplicateEmail(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                String constraintName = violation.getConstraintName();
+                return constraintName != null
+                        && constraintName.toLowerCase(Locale.ROOT).contains(UserConstants.EMAIL_UNIQUE_CONSTRAINT);
+            }
         }
+        return false;
     }
 
     /**
      * 로그인
+     * 회원 조회 후 커넥션을 반환한 뒤 비밀번호를 확인
+     * 가입 이메일 filter 는 이 인스턴스 밖에서 가입한 회원을 모를 수 있으므로 사용하지 않고 항상 DB 에서 조회
      */
     public UserLoginResponse loginUser(UserLoginRequest request) {
 
@@ -60,7 +98,7 @@ public class UserService {
 
         validatePassword(request, foundUser);
 
-        return UserLoginResponse.from(foundUser, JwtUtil.createToken(foundUser.getEmail(), secretKey));
+        return UserLoginResponse.from(foundUser, jwtProvider.createToken(foundUser.getId(), foundUser.getEmail()));
     }
 
     /**
@@ -68,7 +106,7 @@ public class UserService {
      */
     private User validateAndFindUserByEmail(String email) {
         return userRepository.findByEmail(email)
-                .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND));
+                .orElseThrow(() -> AppException.of(ErrorCode.USER_NOT_FOUND));
     }
 
     /**
@@ -77,7 +115,7 @@ public class UserService {
 
     private void validatePassword(UserLoginRequest request, User foundUser) {
         if (!encryption.matches(request.getPassword(), foundUser.getPassword())) {
-            throw new AppException(ErrorCode.WRONG_PASSWORD);
+            throw AppException.of(ErrorCode.WRONG_PASSWORD);
         }
     }
 
@@ -2,6 +2,7 @@ package com.wanted.controller;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wanted.domain.post.Post;
 import com.wanted.domain.post.dto.*;
 import com.wanted.domain.user.dto.UserCreateRequest;
 import com.wanted.domain.user.dto.UserCreateResponse;
@@ -10,6 +11,11 @@ import com.wanted.domain.user.dto.UserLoginResponse;
 import com.wanted.global.config.SecurityConfig;
 import com.wanted.global.exception.AppException;
 import com.wanted.global.exception.ErrorCode;
+import com.wanted.global.ratelimit.ExportConcurrencyLimiter;
+import com.wanted.global.security.AuthenticatedUser;
+import com.wanted.global.util.CursorUtil;
+import com.wanted.global.util.ETagUtil;
+import com.wanted.global.util.JwtProvider;
 import com.wanted.global.util.JwtUtil;
 import com.wanted.service.PostService;
 import com.wanted.service.UserService;
@@ -29,25 +35,35 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpHeaders;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import static com.wanted.global.exception.ErrorCode.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(value = PostApiController.class)
-@Import({SecurityConfig.class})
+@Import({SecurityConfig.class, JwtProvider.class})
 class PostApiControllerTest {
 
     @Autowired
@@ -58,11 +74,15 @@ class PostApiControllerTest {
     WebApplicationContext wac;
     @MockBean
     private PostService postService;
+    @MockBean
+    private ExportConcurrencyLimiter exportConcurrencyLimiter;
     Long postId = 1L;
     Long userId = 1L;
+    Long version = 0L;
     String title = "title";
     String body = "body";
     String email = "email";
+    AuthenticatedUser authenticatedUser = new AuthenticatedUser(userId, email);
 
     @Value("${jwt.secret}")
     String secretKey;
@@ -102,6 +122,7 @@ class PostApiControllerTest {
                 .author(email)
                 .title(title)
                 .body(body)
+                .version(version)
                 .build();
 
         postUpdateRequest = PostUpdateRequest.builder()
@@ -113,15 +134,14 @@ class PostApiControllerTest {
                 .postId(postId)
                 .title(title)
                 .body(body)
+                .version(version + 1)
                 .build();
 
         postDeleteResponse = PostDeleteResponse.builder()
                 .postId(postId)
-                .title(title)
-                .body(body)
                 .build();
 
-        token = JwtUtil.createToken(email, secretKey);
+        token = JwtUtil.createToken(userId, email, secretKey);
 
     }
 
@@ -133,7 +153,7 @@ class PostApiControllerTest {
         @DisplayName("성공")
         void createPost_success() throws Exception {
 
-            given(postService.createPost(postCreateRequest, email))
+            given(postService.createPost(postCreateRequest, authenticatedUser))
                     .willReturn(postCreateResponse);
 
             mockMvc.perform(post("/api/v1/posts")
@@ -155,7 +175,7 @@ class PostApiControllerTest {
         @DisplayName("실패 - 가입된 회원이 아닌 경우")
         void createPost_error_userNotFound() throws Exception {
 
-            when(postService.createPost(postCreateRequest, email))
+            when(postService.createPost(postCreateRequest, authenticatedUser))
                     .thenThrow(new AppException(USER_NOT_FOUND));
 
             mockMvc.perform(post("/api/v1/posts")
@@ -186,6 +206,44 @@ class PostApiControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("게시글 일괄 등록 테스트")
+    class CreatePosts {
+
+        @Test
+        @DisplayName("성공")
+        void createPosts_success() throws Exception {
+            List<PostCreateRequest> requestDtos = List.of(postCreateRequest, postCreateRequest);
+
+            given(postService.createPosts(requestDtos, authenticatedUser))
+                    .willReturn(new PostBulkCreateResponse(userId, 2, List.of(1L, 2L)));
+
+            mockMvc.perform(post("/api/v1/posts/bulk")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                            .contentType(APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(requestDtos)))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.message").value("SUCCESS"))
+                    .andExpect(jsonPath("$.result.userId").value(userId))
+                    .andExpect(jsonPath("$.result.createdCount").value(2))
+                    .andExpect(jsonPath("$.result.postIds[1]").value(2));
+        }
+
+        @Test
+        @DisplayName("실패 - jwt 없이 요청 시")
+        void createPosts_error_tokenNotFound() throws Exception {
+
+            mockMvc.perform(post("/api/v1/posts/bulk")
+                            .contentType(APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(List.of(postCreateRequest))))
+                    .andDo(print())
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(jsonPath("$.message").value("ERROR"))
+                    .andExpect(jsonPath("$.result").value("유효한 토큰이 아닙니다."));
+        }
+    }
+
     @Nested
     @DisplayName("게시글 조회 테스트")
     class GetPost {
@@ -205,7 +263,52 @@ class PostApiControllerTest {
                     .andExpect(jsonPath("$.result.postId").value(postId))
                     .andExpect(jsonPath("$.result.author").value(email))
                     .andExpect(jsonPath("$.result.title").value(title))
-                    .andExpect(jsonPath("$.result.body").value(body));
+                    .andExpect(jsonPath("$.result.body").value(body))
+                    .andExpect(jsonPath("$.result.version").doesNotExist())
+                    .andExpect(header().string(HttpHeaders.ETAG, ETagUtil.of(postId, version)));
+        }
+
+        @Test
+        @DisplayName("성공 - 인증이 필요 없는 조회 요청은 토큰을 확인하지 않음")
+        void getPost_success_tokenNotVerified() throws Exception {
+            given(postService.getPost(postId))
+                    .willReturn(postGetResponse);
+
+            mockMvc.perform(get("/api/v1/posts/" + postId)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer invalidToken"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.result.postId").value(postId));
+        }
+
+        @Test
+        @DisplayName("성공 - If-None-Match 의 ETag 와 (캐시된) 게시글 버전이 같으면 본문 없이 304 응답")
+        void getPost_notModified() throws Exception {
+            given(postService.getPost(postId))
+                    .willReturn(postGetResponse);
+
+            mockMvc.perform(get("/api/v1/posts/" + postId)
+                            .header(HttpHeaders.IF_NONE_MATCH, ETagUtil.of(postId, version)))
+                    .andDo(print())
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, ETagUtil.of(postId, version)))
+                    .andExpect(content().string(""));
+
+            verify(postService, times(1)).getPost(postId);
+        }
+
+        @Test
+        @DisplayName("성공 - If-None-Match 의 ETag 와 버전이 다르면 게시글 조회")
+        void getPost_modified() throws Exception {
+            given(postService.getPost(postId))
+                    .willReturn(postGetResponse);
+
+            mockMvc.perform(get("/api/v1/posts/" + postId)
+                            .header(HttpHeaders.IF_NONE_MATCH, ETagUtil.of(postId, version + 1)))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, ETagUtil.of(postId, version)))
+                    .andExpect(jsonPath("$.result.postId").value(postId));
         }
 
 
@@ -240,7 +343,121 @@ class PostApiControllerTest {
                     .andExpect(jsonPath("$.result.content[0].postId").value(postId))
                     .andExpect(jsonPath("$.result.content[0].author").value(email))
                     .andExpect(jsonPath("$.result.content[0].title").value(title))
-                    .andExpect(jsonPath("$.result.content[0].body").value(body));
+                    .andExpect(jsonPath("$.result.content[0].body").value(body))
+                    .andExpect(header().exists(HttpHeaders.ETAG));
+        }
+
+        @Test
+        @DisplayName("성공 - 페이지의 ETag 가 같으면 304 응답")
+        void getPostPage_notModified() throws Exception {
+            PageImpl<PostGetResponse> page = new PageImpl<>(List.of(postGetResponse));
+            given(postService.getPostPage(pageable))
+                    .willReturn(page);
+
+            mockMvc.perform(get("/api/v1/posts")
+                            .header(HttpHeaders.IF_NONE_MATCH, ETagUtil.of(page)))
+                    .andDo(print())
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+        }
+
+        @Test
+        @DisplayName("내보내기 성공 - 게시글 한 건당 한 줄의 JSON 으로 응답")
+        void export_success() throws Exception {
+            willAnswer(invocation -> {
+                Consumer<PostGetResponse> consumer = invocation.getArgument(0);
+                consumer.accept(postGetResponse);
+                consumer.accept(postGetResponse);
+                return null;
+            }).given(postService).exportPosts(any());
+
+            String line = objectMapper.writeValueAsString(postGetResponse);
+
+            mockMvc.perform(get("/api/v1/posts/export"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                    .andExpect(content().string(line + "\n" + line + "\n"));
+
+            verify(exportConcurrencyLimiter).acquire();
+            verify(exportConcurrencyLimiter).release();
+        }
+
+        @Test
+        @DisplayName("내보내기 실패 - 동시 내보내기 수를 초과하면 게시글 조회 없이 503 · Retry-After 응답")
+        void export_fail_overloaded() throws Exception {
+            willThrow(new AppException(EXPORT_OVERLOADED, 10))
+                    .given(exportConcurrencyLimiter).acquire();
+
+            mockMvc.perform(get("/api/v1/posts/export"))
+                    .andDo(print())
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "10"))
+                    .andExpect(jsonPath("$.message").value("ERROR"))
+                    .andExpect(jsonPath("$.result").value(EXPORT_OVERLOADED.getMessage()));
+
+            verify(postService, never()).exportPosts(any());
+            verify(exportConcurrencyLimiter, never()).release();
+        }
+
+        @Test
+        @DisplayName("검색 성공")
+        void search_success() throws Exception {
+            given(postService.searchPosts(title, pageable))
+                    .willReturn(new PageImpl<>(List.of(postGetResponse)));
+
+            mockMvc.perform(get("/api/v1/posts/search")
+                            .param("q", title))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.message").value("SUCCESS"))
+                    .andExpect(jsonPath("$.result.content[0].postId").value(postId))
+                    .andExpect(jsonPath("$.result.content[0].title").value(title));
+        }
+
+        @Test
+        @DisplayName("검색 실패 - 검색 인덱스 생성 전이면 503 · Retry-After 응답")
+        void search_fail_indexNotReady() throws Exception {
+            given(postService.searchPosts(title, pageable))
+                    .willThrow(new AppException(SEARCH_NOT_READY, 5));
+
+            mockMvc.perform(get("/api/v1/posts/search")
+                            .param("q", title))
+                    .andDo(print())
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "5"))
+                    .andExpect(jsonPath("$.message").value("ERROR"))
+                    .andExpect(jsonPath("$.result").value(SEARCH_NOT_READY.getMessage()));
+        }
+
+        @Test
+        @DisplayName("커서 조회 성공")
+        void getCursorPage_success() throws Exception {
+            given(postService.getPostCursorPage(null, null, 20))
+                    .willReturn(PostCursorResponse.of(List.of(postGetResponse), true, false));
+
+            mockMvc.perform(get("/api/v1/posts/cursor"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.message").value("SUCCESS"))
+                    .andExpect(jsonPath("$.result.content[0].postId").value(postId))
+                    .andExpect(jsonPath("$.result.content[0].author").value(email))
+                    .andExpect(jsonPath("$.result.nextCursor").value(CursorUtil.encode(postId)))
+                    .andExpect(jsonPath("$.result.prevCursor").isEmpty());
+        }
+
+        @Test
+        @DisplayName("커서 조회 실패 - 유효하지 않은 커서 전달 시")
+        void getCursorPage_fail() throws Exception {
+            when(postService.getPostCursorPage("invalid", null, 20))
+                    .thenThrow(new AppException(INVALID_CURSOR));
+
+            mockMvc.perform(get("/api/v1/posts/cursor")
+                            .param("after", "invalid"))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("ERROR"))
+                    .andExpect(jsonPath("$.result").value("유효한 커서가 아닙니다."));
         }
 
     }
@@ -254,7 +471,7 @@ class PostApiControllerTest {
         @DisplayName("성공")
         void updatePost_success() throws Exception {
 
-            given(postService.updatePost(postUpdateRequest, postId, email))
+            given(postService.updatePost(postUpdateRequest, postId, authenticatedUser, null))
                     .willReturn(postUpdateResponse);
 
             mockMvc.perform(put("/api/v1/posts/" + postId)
@@ -263,6 +480,7 @@ class PostApiControllerTest {
                             .content(objectMapper.writeValueAsString(postUpdateRequest)))
                     .andDo(print())
                     .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, ETagUtil.of(postId, version + 1)))
                     .andExpect(jsonPath("$.message").exists())
                     .andExpect(jsonPath("$.message").value("SUCCESS"))
                     .andExpect(jsonPath("$.result").exists())
@@ -271,11 +489,49 @@ class PostApiControllerTest {
                     .andExpect(jsonPath("$.result.body").value(body));
         }
 
+        @Test
+        @DisplayName("성공 - If-Match 헤더의 ETag 에서 버전을 추출하여 전달")
+        void updatePost_success_ifMatch() throws Exception {
+
+            given(postService.updatePost(postUpdateRequest, postId, authenticatedUser, version))
+                    .willReturn(postUpdateResponse);
+
+            mockMvc.perform(put("/api/v1/posts/" + postId)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                            .header(HttpHeaders.IF_MATCH, ETagUtil.of(postId, version))
+                            .contentType(APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(postUpdateRequest)))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, ETagUtil.of(postId, version + 1)));
+
+            verify(postService).updatePost(postUpdateRequest, postId, authenticatedUser, version);
+        }
+
+        @Test
+        @DisplayName("실패 - 다른 요청이 먼저 수정하여 버전 충돌이 발생한 경우 412")
+        void updatePost_fail_optimisticLock() throws Exception {
+
+            given(postService.updatePost(postUpdateRequest, postId, authenticatedUser, version))
+                    .willThrow(new ObjectOptimisticLockingFailureException(Post.class, postId));
+
+            mockMvc.perform(put("/api/v1/posts/" + postId)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                            .header(HttpHeaders.IF_MATCH, ETagUtil.of(postId, version))
+                            .contentType(APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(postUpdateRequest)))
+                    .andDo(print())
+                    .andExpect(status().isPreconditionFailed())
+                    .andExpect(jsonPath("$.message").value("ERROR"))
+                    .andExpect(jsonPath("$.result").value(VERSION_NOT_MATCH.getMessage()));
+        }
+
         private static Stream<Arguments> updatePostFailScenarios() {
             return Stream.of(
                     Arguments.of(USER_NOT_FOUND, 404, "가입된 회원을 찾을 수 없습니다."),
                     Arguments.of(POST_NOT_FOUND, 404, "게시글을 찾을 수 없습니다."),
-                    Arguments.of(USER_NOT_MATCH, 401, "작성자 본인만 요청할 수 있습니다.")
+                    Arguments.of(USER_NOT_MATCH, 401, "작성자 본인만 요청할 수 있습니다."),
+                    Arguments.of(VERSION_NOT_MATCH, 412, "게시글이 다른 요청에 의해 변경되었습니다. 다시 조회 후 요청해주세요.")
             );
         }
 
@@ -283,7 +539,7 @@ class PostApiControllerTest {
         @ParameterizedTest
         @MethodSource("updatePostFailScenarios")
         void updatePost_fail_exception(ErrorCode errorCode, int responseStatus, String errorMessage) throws Exception {
-            when(postService.updatePost(postUpdateRequest, postId, email))
+            when(postService.updatePost(postUpdateRequest, postId, authenticatedUser, null))
                     .thenThrow(new AppException(errorCode));
 
             mockMvc.perform(put("/api/v1/posts/" + postId)
@@ -300,6 +556,21 @@ class PostApiControllerTest {
         }
 
 
+        @Test
+        @DisplayName("실패 - 유효하지 않은 jwt 로 요청 시")
+        void updatePost_error_invalidToken() throws Exception {
+
+            mockMvc.perform(put("/api/v1/posts/" + postId)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer invalidToken")
+                            .contentType(APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(postUpdateRequest)))
+                    .andDo(print())
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(jsonPath("$.result").value("유효한 토큰이 아닙니다."));
+
+            verify(postService, never()).updatePost(any(), any(), any(), any());
+        }
+
         @Test
         @DisplayName("실패 - jwt 없이 요청 시")
         void updatePost_error_tokenNotFound() throws Exception {
@@ -324,7 +595,7 @@ class PostApiControllerTest {
         @DisplayName("성공")
         void deletePost_success() throws Exception {
 
-            given(postService.deletePost(postId, email))
+            given(postService.deletePost(postId, authenticatedUser, null))
                     .willReturn(postDeleteResponse);
 
             mockMvc.perform(delete("/api/v1/posts/" + postId)
@@ -335,15 +606,30 @@ class PostApiControllerTest {
                     .andExpect(jsonPath("$.message").value("SUCCESS"))
                     .andExpect(jsonPath("$.result").exists())
                     .andExpect(jsonPath("$.result.postId").value(postId))
-                    .andExpect(jsonPath("$.result.title").value(title))
-                    .andExpect(jsonPath("$.result.body").value(body));
+                    .andExpect(jsonPath("$.result.title").doesNotExist())
+                    .andExpect(jsonPath("$.result.body").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("실패 - 다른 게시글의 ETag 로 요청한 경우 일치하지 않는 버전으로 전달되어 412")
+        void deletePost_fail_ifMatchOtherPost() throws Exception {
+
+            given(postService.deletePost(postId, authenticatedUser, -1L))
+                    .willThrow(new AppException(VERSION_NOT_MATCH));
+
+            mockMvc.perform(delete("/api/v1/posts/" + postId)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                            .header(HttpHeaders.IF_MATCH, ETagUtil.of(postId + 1, version)))
+                    .andDo(print())
+                    .andExpect(status().isPreconditionFailed());
         }
 
         private static Stream<Arguments> deletePostFailScenarios() {
             return Stream.of(
                     Arguments.of(USER_NOT_FOUND, 404, "가입된 회원을 찾을 수 없습니다."),
                     Arguments.of(POST_NOT_FOUND, 404, "게시글을 찾을 수 없습니다."),
-                    Arguments.of(USER_NOT_MATCH, 401, "작성자 본인만 요청할 수 있습니다.")
+                    Arguments.of(USER_NOT_MATCH, 401, "작성자 본인만 요청할 수 있습니다."),
+                    Arguments.of(VERSION_NOT_MATCH, 412, "게시글이 다른 요청에 의해 변경되었습니다. 다시 조회 후 요청해주세요.")
             );
         }
 
@@ -351,7 +637,7 @@ class PostApiControllerTest {
         @ParameterizedTest
         @MethodSource("deletePostFailScenarios")
         void deletePost_fail_exception(ErrorCode errorCode, int responseStatus, String errorMessage) throws Exception {
-            when(postService.deletePost(postId, email))
+            when(postService.deletePost(postId, authenticatedUser, null))
                     .thenThrow(new AppException(errorCode));
 
             mockMvc.perform(delete("/api/v1/posts/" + postId)
@@ -5,10 +5,12 @@ import com.wanted.domain.user.dto.UserCreateRequest;
 import com.wanted.domain.user.dto.UserCreateResponse;
 import com.wanted.domain.user.dto.UserLoginRequest;
 import com.wanted.domain.user.dto.UserLoginResponse;
-import com.wanted.global.aop.BindingCheckAop;
+import com.wanted.global.concurrent.PasswordHashingExecutor;
 import com.wanted.global.config.SecurityConfig;
 import com.wanted.global.exception.AppException;
 import com.wanted.global.exception.ErrorCode;
+import com.wanted.global.ratelimit.LoginRateLimiter;
+import com.wanted.global.util.JwtProvider;
 import com.wanted.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,29 +22,38 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.context.annotation.EnableAspectJAutoProxy;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static com.wanted.global.constants.ValidationConstants.EMAIL_BINDING_ERROR_MESSAGE;
 import static com.wanted.global.constants.ValidationConstants.PASSWORD_BINDING_ERROR_MESSAGE;
 import static com.wanted.global.exception.ErrorCode.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(value = UserApiController.class)
-@EnableAspectJAutoProxy(proxyTargetClass = true)
-@Import({SecurityConfig.class, BindingCheckAop.class})
+@Import({SecurityConfig.class, JwtProvider.class})
 class UserApiControllerTest {
     @Autowired
     private MockMvc mockMvc;
@@ -52,6 +63,10 @@ class UserApiControllerTest {
     WebApplicationContext wac;
     @MockBean
     private UserService userService;
+    @MockBean
+    private PasswordHashingExecutor passwordHashingExecutor;
+    @MockBean
+    private LoginRateLimiter loginRateLimiter;
 
     String email = "email@email.com";
     String password = "password";
@@ -65,6 +80,10 @@ class UserApiControllerTest {
     @BeforeEach
     void setUp() {
 
+        // 전용 스레드 풀 대신 요청 스레드에서 바로 실행 (예외는 CompletableFuture 로 전달)
+        given(passwordHashingExecutor.submit(any()))
+                .willAnswer(invocation -> CompletableFuture.supplyAsync(invocation.<Supplier<?>>getArgument(0), Runnable::run));
+
         mockMvc = MockMvcBuilders
                 .webAppContextSetup(wac)
                 .apply(SecurityMockMvcConfigurers.springSecurity())
@@ -101,9 +120,13 @@ class UserApiControllerTest {
             given(userService.createUser(userCreateRequest))
                     .willReturn(userCreateResponse);
 
-            mockMvc.perform(post("/api/v1/users")
+            MvcResult mvcResult = mockMvc.perform(post("/api/v1/users")
                             .contentType(APPLICATION_JSON)
                             .content(objectMapper.writeValueAsString(userCreateRequest)))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(mvcResult))
                     .andDo(print())
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.message").exists())
@@ -120,9 +143,13 @@ class UserApiControllerTest {
             when(userService.createUser(userCreateRequest))
                     .thenThrow(new AppException(DUPLICATE_EMAIL));
 
-            mockMvc.perform(post("/api/v1/users")
+            MvcResult mvcResult = mockMvc.perform(post("/api/v1/users")
                             .contentType(APPLICATION_JSON)
                             .content(objectMapper.writeValueAsString(userCreateRequest)))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(mvcResult))
                     .andDo(print())
                     .andExpect(status().isConflict())
                     .andExpect(jsonPath("$.message").exists())
@@ -168,9 +195,13 @@ class UserApiControllerTest {
             given(userService.loginUser(userLoginRequest))
                     .willReturn(userLoginResponse);
 
-            mockMvc.perform(post("/api/v1/users/login")
+            MvcResult mvcResult = mockMvc.perform(post("/api/v1/users/login")
                             .contentType(APPLICATION_JSON)
                             .content(objectMapper.writeValueAsString(userLoginRequest)))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(mvcResult))
                     .andDo(print())
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.message").exists())
@@ -194,9 +225,13 @@ class UserApiControllerTest {
             when(userService.loginUser(userLoginRequest))
                     .thenThrow(new AppException(errorCode));
 
-            mockMvc.perform(post("/api/v1/users/login")
+            MvcResult mvcResult = mockMvc.perform(post("/api/v1/users/login")
                             .contentType(APPLICATION_JSON)
                             .content(objectMapper.writeValueAsString(userLoginRequest)))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(mvcResult))
                     .andDo(print())
                     .andExpect(status().is(responseStatus))
                     .andExpect(jsonPath("$.message").exists())
@@ -207,9 +242,47 @@ class UserApiControllerTest {
         }
 
 
+        @Test
+        @DisplayName("실패 - 비밀번호 해싱 스레드 풀이 가득 찬 경우 회원 조회 없이 503 · Retry-After 응답")
+        void loginUser_fail_overloaded() throws Exception {
+            given(passwordHashingExecutor.submit(any()))
+                    .willThrow(new AppException(AUTH_OVERLOADED, 1));
+
+            mockMvc.perform(post("/api/v1/users/login")
+                            .contentType(APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(userLoginRequest)))
+                    .andDo(print())
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                    .andExpect(jsonPath("$.message").value("ERROR"))
+                    .andExpect(jsonPath("$.result").value(AUTH_OVERLOADED.getMessage()));
+
+            verify(userService, never()).loginUser(any());
+        }
+
+        @Test
+        @DisplayName("실패 - 로그인 시도 횟수 초과 시 회원 조회 · 비밀번호 해싱 없이 429 · Retry-After 응답")
+        void loginUser_fail_tooManyAttempts() throws Exception {
+            willThrow(new AppException(TOO_MANY_LOGIN_ATTEMPTS, 12))
+                    .given(loginRateLimiter).check(email, "127.0.0.1");
+
+            mockMvc.perform(post("/api/v1/users/login")
+                            .contentType(APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(userLoginRequest)))
+                    .andDo(print())
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "12"))
+                    .andExpect(jsonPath("$.message").value("ERROR"))
+                    .andExpect(jsonPath("$.result").value(TOO_MANY_LOGIN_ATTEMPTS.getMessage()));
+
+            verify(passwordHashingExecutor, never()).submit(any());
+            verify(userService, never()).loginUser(any());
+        }
+
         private static Stream<Arguments> loginUserBindingFailScenarios() {
             return Stream.of(
                     Arguments.of(EMAIL_BINDING_ERROR_MESSAGE, UserLoginRequest.builder().email("email").password("12345678").build()),
+                    Arguments.of(EMAIL_BINDING_ERROR_MESSAGE, UserLoginRequest.builder().password("12345678").build()),
                     Arguments.of(PASSWORD_BINDING_ERROR_MESSAGE, UserLoginRequest.builder().email("email@email.com").password("1234567").build())
             );
         }
@@ -229,6 +302,7 @@ class UserApiControllerTest {
                     .andExpect(jsonPath("$.result").exists())
                     .andExpect(jsonPath("$.result").value(errorMessage));
 
+            verify(loginRateLimiter, never()).check(any(), any());
         }
 
 
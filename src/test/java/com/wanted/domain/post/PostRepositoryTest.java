@@ -0,0 +1,185 @@
+package com.wanted.domain.post;
+
+import com.wanted.domain.post.dto.PostGetResponse;
+import com.wanted.domain.user.User;
+import com.wanted.domain.user.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:wanted-db;MODE=MySQL;NON_KEYWORDS=USER",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class PostRepositoryTest {
+
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManager em;
+
+    Statistics statistics;
+    Long firstPostId;
+    Long author1Id;
+    Long author2Id;
+
+    @BeforeEach
+    void setUp() {
+        User author1 = userRepository.save(User.builder().email("author1@email.com").password("password").build());
+        User author2 = userRepository.save(User.builder().email("author2@email.com").password("password").build());
+        author1Id = author1.getId();
+        author2Id = author2.getId();
+
+        for (int i = 0; i < 30; i++) {
+            Post post = postRepository.save(Post.builder()
+                    .user(i % 2 == 0 ? author1 : author2)
+                    .title("title" + i)
+                    .body("body" + i)
+                    .build());
+            if (firstPostId == null) {
+                firstPostId = post.getId();
+            }
+        }
+
+        em.flush();
+        em.clear();
+
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("게시글 일괄 저장 시 batch insert 1회로 저장하고 생성된 postId 를 저장 순서대로 반환")
+    void insertAll_batchInsert() {
+        User author = userRepository.getReferenceById(author1Id);
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            posts.add(Post.builder().user(author).title("bulk" + i).body("bulk" + i).build());
+        }
+
+        List<Long> postIds = postRepository.insertAll(posts);
+
+        assertThat(postIds).hasSize(1000).doesNotHaveDuplicates().isSorted();
+        assertThat(postRepository.count()).isEqualTo(1030);
+        assertThat(postRepository.findPostGetResponseById(postIds.get(0)).orElseThrow().getTitle()).isEqualTo("bulk0");
+        assertThat(postRepository.findPostGetResponseById(postIds.get(999)).orElseThrow().getTitle()).isEqualTo("bulk999");
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("회원 id 참조로 게시글 저장 시 회원을 조회하지 않음")
+    void save_withUserReference_noUserLoad() {
+        User author = userRepository.getReferenceById(author1Id);
+
+        Post savedPost = postRepository.save(Post.builder().user(author).title("title").body("body").build());
+        em.flush();
+
+        assertThat(savedPost.getUser().getId()).isEqualTo(author1Id);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("단건 조회 시 작성자를 포함해 쿼리 1회만 실행")
+    void findPostGetResponseById_singleStatement() {
+        Optional<PostGetResponse> response = postRepository.findPostGetResponseById(firstPostId);
+
+        assertThat(response).isPresent();
+        assertThat(response.get().getAuthor()).isEqualTo("author1@email.com");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("페이지 조회 시 게시글 수와 관계없이 목록 쿼리 1회 · COUNT 쿼리 1회만 실행")
+    void findPostGetResponses_twoStatements() {
+        Page<PostGetResponse> page = postRepository.findPostGetResponses(PageRequest.of(0, 20));
+
+        assertThat(page.getContent()).hasSize(20);
+        assertThat(page.getTotalElements()).isEqualTo(30);
+        assertThat(page.getContent()).allMatch(post -> post.getAuthor() != null);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("전체 내보내기 시 쿼리 1회로 모든 게시글을 조회하고 엔티티는 영속성 컨텍스트에 쌓이지 않음")
+    void streamAllPostGetResponses_singleStatement() {
+        long count;
+        try (Stream<PostGetResponse> posts = postRepository.streamAllPostGetResponses()) {
+            count = posts.count();
+        }
+
+        assertThat(count).isEqualTo(30);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("커서 조회 시 COUNT 쿼리 없이 쿼리 1회만 실행")
+    void findPostGetResponsesByIdLessThan_singleStatement() {
+        List<PostGetResponse> posts = postRepository.findPostGetResponsesByIdLessThan(firstPostId + 25, PageRequest.of(0, 21));
+
+        assertThat(posts).hasSize(21);
+        assertThat(posts.get(0).getPostId()).isEqualTo(firstPostId + 24);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("작성자 본인 수정 시 회원 · 게시글 조회 없이 UPDATE 1회로 수정하고 버전 증가")
+    void updateOwnedPost_singleStatement() {
+        int updatedCount = postRepository.updateOwnedPost(firstPostId, author1Id, null, "updated", "updated");
+
+        assertThat(updatedCount).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+
+        em.clear();
+        Post post = postRepository.findById(firstPostId).orElseThrow();
+        assertThat(post.getTitle()).isEqualTo("updated");
+        assertThat(post.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("작성자가 아니거나 버전이 일치하지 않으면 수정 · 삭제되지 않음")
+    void updateOwnedPost_deleteOwnedPost_conditionNotMatch() {
+        assertThat(postRepository.updateOwnedPost(firstPostId, author2Id, null, "updated", "updated")).isZero();
+        assertThat(postRepository.updateOwnedPost(firstPostId, author1Id, 1L, "updated", "updated")).isZero();
+        assertThat(postRepository.updateOwnedPost(firstPostId, -1L, null, "updated", "updated")).isZero();
+        assertThat(postRepository.deleteOwnedPost(firstPostId, author2Id, null)).isZero();
+        assertThat(postRepository.deleteOwnedPost(firstPostId, author1Id, 1L)).isZero();
+
+        assertThat(postRepository.existsById(firstPostId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("작성자 본인 삭제 시 회원 · 게시글 조회 없이 DELETE 1회로 삭제")
+    void deleteOwnedPost_singleStatement() {
+        int deletedCount = postRepository.deleteOwnedPost(firstPostId, author1Id, 0L);
+
+        assertThat(deletedCount).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(postRepository.existsById(firstPostId)).isFalse();
+    }
+}
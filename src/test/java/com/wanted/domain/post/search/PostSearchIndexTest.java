@@ -0,0 +1,160 @@
+package com.wanted.domain.post.search;
+
+import com.wanted.domain.post.PostRepository;
+import com.wanted.domain.post.dto.PostGetResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class PostSearchIndexTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @InjectMocks
+    private PostSearchIndex postSearchIndex;
+
+    @Nested
+    @DisplayName("토큰 분리 테스트")
+    class Tokenize {
+
+        @Test
+        @DisplayName("영문은 소문자 단어 단위, 한글은 2-gram 단위로 분리")
+        void tokenize_englishAndKorean() {
+            assertThat(PostTokenizer.tokenize("Spring 게시글을 작성"))
+                    .containsExactly("spring", "게시", "시글", "글을", "작성");
+        }
+
+        @Test
+        @DisplayName("한 글자 한글은 그대로 분리")
+        void tokenize_singleKoreanCharacter() {
+            assertThat(PostTokenizer.tokenize("글 JPA"))
+                    .containsExactly("글", "jpa");
+        }
+    }
+
+    @Nested
+    @DisplayName("검색 테스트")
+    class Search {
+
+        @Test
+        @DisplayName("조사가 붙은 한글 단어도 검색되며, 제목에 포함된 게시글이 먼저 조회")
+        void search_korean_titleRankedFirst() {
+            postSearchIndex.index(1L, "자유 게시판", "오늘 작성한 게시글을 공유합니다");
+            postSearchIndex.index(2L, "게시글 작성 방법", "내용");
+            postSearchIndex.index(3L, "spring", "jpa");
+
+            PostSearchResult result = postSearchIndex.search("게시글", 0, 20);
+
+            assertThat(result.getTotalHits()).isEqualTo(2);
+            assertThat(result.getPostIds()).containsExactly(2L, 1L);
+        }
+
+        @Test
+        @DisplayName("영문 검색은 대소문자를 구분하지 않음")
+        void search_english_caseInsensitive() {
+            postSearchIndex.index(1L, "Spring Boot", "JPA");
+            postSearchIndex.index(2L, "title", "body");
+
+            assertThat(postSearchIndex.search("spring", 0, 20).getPostIds()).containsExactly(1L);
+            assertThat(postSearchIndex.search("jpa", 0, 20).getPostIds()).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("offset · size 에 해당하는 범위만 반환")
+        void search_paging() {
+            for (long postId = 1; postId <= 5; postId++) {
+                postSearchIndex.index(postId, "title", "body");
+            }
+
+            PostSearchResult result = postSearchIndex.search("title", 2, 2);
+
+            assertThat(result.getTotalHits()).isEqualTo(5);
+            assertThat(result.getPostIds()).containsExactly(3L, 2L);
+        }
+
+        @Test
+        @DisplayName("수정된 게시글은 새 내용으로, 삭제된 게시글은 조회되지 않음")
+        void search_afterUpdateAndRemove() {
+            postSearchIndex.index(1L, "spring", "body");
+            postSearchIndex.index(2L, "spring", "body");
+
+            postSearchIndex.index(1L, "django", "body");
+            postSearchIndex.remove(2L);
+
+            assertThat(postSearchIndex.search("spring", 0, 20).getPostIds()).isEmpty();
+            assertThat(postSearchIndex.search("django", 0, 20).getPostIds()).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("삭제된 게시글이 절반을 넘어 정리된 이후에도 남은 게시글 · 새 게시글이 정상 조회")
+        void search_afterCompaction() {
+            for (long postId = 1; postId <= 10; postId++) {
+                postSearchIndex.index(postId, "spring", postId % 2 == 0 ? "even" : "odd");
+            }
+
+            for (long postId = 1; postId <= 6; postId++) {
+                postSearchIndex.remove(postId);
+            }
+            postSearchIndex.index(11L, "spring", "even");
+
+            PostSearchResult result = postSearchIndex.search("spring", 0, 20);
+            assertThat(result.getTotalHits()).isEqualTo(5);
+            assertThat(result.getPostIds()).containsExactly(11L, 10L, 9L, 8L, 7L);
+            assertThat(postSearchIndex.search("even", 0, 20).getPostIds()).containsExactly(11L, 10L, 8L);
+            assertThat(postSearchIndex.search("odd", 0, 20).getPostIds()).containsExactly(9L, 7L);
+        }
+
+        @Test
+        @DisplayName("애플리케이션 시작 시 DB 에 저장된 게시글로 인덱스 생성")
+        void build_fromRepository() {
+            given(postRepository.findPostGetResponsesByIdGreaterThan(0L, PageRequest.of(0, 1000)))
+                    .willReturn(List.of(new PostGetResponse(1L, "author", "spring", "body")));
+
+            assertThat(postSearchIndex.isReady()).isFalse();
+
+            postSearchIndex.build();
+
+            assertThat(postSearchIndex.isReady()).isTrue();
+            assertThat(postSearchIndex.search("spring", 0, 20).getPostIds()).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("인덱스 생성에 실패하면 생성 완료로 표시하지 않음")
+        void build_fail_notReady() {
+            given(postRepository.findPostGetResponsesByIdGreaterThan(0L, PageRequest.of(0, 1000)))
+                    .willThrow(new IllegalStateException("connection refused"));
+
+            postSearchIndex.build();
+
+            assertThat(postSearchIndex.isReady()).isFalse();
+        }
+
+        @Test
+        @DisplayName("백그라운드 인덱스 생성에 실패하면 잠시 후 다시 생성")
+        void buildAsync_retryAfterFailure() {
+            given(postRepository.findPostGetResponsesByIdGreaterThan(0L, PageRequest.of(0, 1000)))
+                    .willThrow(new IllegalStateException("connection refused"))
+                    .willReturn(List.of(new PostGetResponse(1L, "author", "spring", "body")));
+
+            postSearchIndex.buildAsync();
+
+            await().atMost(Duration.ofSeconds(5)).until(postSearchIndex::isReady);
+            assertThat(postSearchIndex.search("spring", 0, 20).getPostIds()).containsExactly(1L);
+            postSearchIndex.shutdown();
+        }
+    }
+}
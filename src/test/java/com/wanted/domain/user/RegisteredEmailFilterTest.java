@@ -0,0 +1,99 @@
+package com.wanted.domain.user;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class RegisteredEmailFilterTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    RegisteredEmailFilter registeredEmailFilter;
+
+    String email = "email@email.com";
+
+    @AfterEach
+    void tearDown() {
+        registeredEmailFilter.shutdown();
+    }
+
+    @Test
+    @DisplayName("생성 전에는 모든 이메일을 가입되었을 수 있다고 판단 (DB 조회로 대체)")
+    void mightContain_beforeBuild() {
+        registeredEmailFilter = new RegisteredEmailFilter(userRepository, transactionManager, 0.0001, 100);
+
+        assertThat(registeredEmailFilter.mightContain(email)).isTrue();
+        assertThat(registeredEmailFilter.mightContain("unknown@email.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("생성 후 가입된 이메일만 포함, 대소문자는 구분하지 않음")
+    void mightContain_afterBuild() {
+        registeredEmailFilter = new RegisteredEmailFilter(userRepository, transactionManager, 0.0001, 100);
+        given(userRepository.count()).willReturn(1L);
+        given(userRepository.streamAllEmails()).willReturn(Stream.of(email));
+
+        registeredEmailFilter.rebuild();
+
+        assertThat(registeredEmailFilter.mightContain(email)).isTrue();
+        assertThat(registeredEmailFilter.mightContain("EMAIL@email.com")).isTrue();
+        assertThat(registeredEmailFilter.mightContain("unknown@email.com")).isFalse();
+    }
+
+    @Test
+    @DisplayName("생성 후 이메일이 null 이면 예외 없이 가입되지 않았다고 판단, null 은 추가 · 생성 시 무시")
+    void mightContain_nullEmail() {
+        registeredEmailFilter = new RegisteredEmailFilter(userRepository, transactionManager, 0.0001, 100);
+        given(userRepository.count()).willReturn(2L);
+        given(userRepository.streamAllEmails()).willReturn(Stream.of(email, null));
+
+        registeredEmailFilter.rebuild();
+        registeredEmailFilter.put(null);
+
+        assertThat(registeredEmailFilter.mightContain(null)).isFalse();
+        assertThat(registeredEmailFilter.mightContain(email)).isTrue();
+    }
+
+    @Test
+    @DisplayName("생성 후 가입한 이메일 추가")
+    void put() {
+        registeredEmailFilter = new RegisteredEmailFilter(userRepository, transactionManager, 0.0001, 100);
+        given(userRepository.count()).willReturn(0L);
+        given(userRepository.streamAllEmails()).willReturn(Stream.empty());
+        registeredEmailFilter.rebuild();
+
+        registeredEmailFilter.put(email);
+
+        assertThat(registeredEmailFilter.mightContain(email)).isTrue();
+    }
+
+    @Test
+    @DisplayName("재생성 실패 시 기존 filter 유지")
+    void rebuild_fail_keepCurrent() {
+        registeredEmailFilter = new RegisteredEmailFilter(userRepository, transactionManager, 0.0001, 100);
+        given(userRepository.count()).willReturn(1L, 1L);
+        given(userRepository.streamAllEmails())
+                .willReturn(Stream.of(email))
+                .willThrow(new IllegalStateException("connection refused"));
+        registeredEmailFilter.rebuild();
+
+        registeredEmailFilter.rebuild();
+
+        assertThat(registeredEmailFilter.mightContain(email)).isTrue();
+        assertThat(registeredEmailFilter.mightContain("unknown@email.com")).isFalse();
+    }
+}
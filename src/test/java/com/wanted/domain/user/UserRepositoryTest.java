@@ -0,0 +1,79 @@
+package com.wanted.domain.user;
+
+import com.wanted.global.constants.UserConstants;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:wanted-db;MODE=MySQL;NON_KEYWORDS=USER",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class UserRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManager em;
+
+    Statistics statistics;
+    String email = "email@email.com";
+
+    @BeforeEach
+    void setUp() {
+        userRepository.save(User.builder().email(email).password("password").build());
+        em.flush();
+        em.clear();
+
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("새 이메일로 가입 시 중복 확인 쿼리 없이 INSERT 1회로 저장")
+    void save_singleStatement() {
+        User savedUser = userRepository.save(User.builder().email("new@email.com").password("password").build());
+
+        assertThat(savedUser.getId()).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 가입된 이메일로 저장 시 email unique 제약 조건 위반 예외 발생")
+    void save_fail_duplicateEmail() {
+        DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class,
+                () -> userRepository.save(User.builder().email(email).password("password").build()));
+
+        ConstraintViolationException violation = (ConstraintViolationException) exception.getCause();
+        assertThat(violation.getConstraintName()).containsIgnoringCase(UserConstants.EMAIL_UNIQUE_CONSTRAINT);
+    }
+
+    @Test
+    @DisplayName("가입 이메일 filter 생성 시 엔티티 없이 이메일만 쿼리 1회로 조회")
+    void streamAllEmails_singleStatement() {
+        try (Stream<String> emails = userRepository.streamAllEmails()) {
+            assertThat(emails).containsExactly(email);
+        }
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
@@ -0,0 +1,63 @@
+package com.wanted.global.concurrent;
+
+import com.wanted.global.exception.AppException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.wanted.global.constants.AuthConstants.HASHING_RETRY_AFTER_SECONDS;
+import static com.wanted.global.exception.ErrorCode.AUTH_OVERLOADED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PasswordHashingExecutorTest {
+
+    PasswordHashingExecutor passwordHashingExecutor = new PasswordHashingExecutor(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        passwordHashingExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("작업 결과를 CompletableFuture 로 반환")
+    void submit_success() {
+        assertThat(passwordHashingExecutor.submit(() -> "hashed").join()).isEqualTo("hashed");
+    }
+
+    @Test
+    @DisplayName("스레드 · 대기열이 모두 가득 찬 경우 작업을 실행하지 않고 즉시 AUTH_OVERLOADED 예외 발생")
+    void submit_fail_overloaded() {
+        int poolSize = Runtime.getRuntime().availableProcessors();
+        List<CompletableFuture<Boolean>> running = new ArrayList<>();
+        // 모든 스레드 + 대기열(1) 점유
+        for (int i = 0; i < poolSize + 1; i++) {
+            running.add(passwordHashingExecutor.submit(this::awaitRelease));
+        }
+
+        AppException appException = assertThrows(AppException.class, () -> passwordHashingExecutor.submit(() -> "rejected"));
+
+        assertThat(appException.getErrorCode()).isEqualTo(AUTH_OVERLOADED);
+        assertThat(appException.getRetryAfterSeconds()).isEqualTo(HASHING_RETRY_AFTER_SECONDS);
+
+        release.countDown();
+        assertThat(running).allMatch(CompletableFuture::join);
+    }
+
+    private boolean awaitRelease() {
+        try {
+            return release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
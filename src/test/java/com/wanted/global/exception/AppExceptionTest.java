@@ -0,0 +1,48 @@
+package com.wanted.global.exception;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AppExceptionTest {
+
+    @Test
+    @DisplayName("기본 설정에서는 ErrorCode 별 공유 인스턴스를 사용하고 stack trace 를 기록하지 않음")
+    void of_shared_stackless() {
+        AppException appException = AppException.of(ErrorCode.POST_NOT_FOUND);
+
+        assertThat(appException).isSameAs(AppException.of(ErrorCode.POST_NOT_FOUND));
+        assertThat(appException.getErrorCode()).isEqualTo(ErrorCode.POST_NOT_FOUND);
+        assertThat(appException.getMessage()).isEqualTo(ErrorCode.POST_NOT_FOUND.getMessage());
+        assertThat(appException.getStackTrace()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("공유 인스턴스에는 suppressed 예외가 추가되지 않음")
+    void of_shared_immutable() {
+        AppException appException = AppException.of(ErrorCode.USER_NOT_FOUND);
+
+        appException.addSuppressed(new IllegalStateException());
+
+        assertThat(AppException.of(ErrorCode.USER_NOT_FOUND).getSuppressed()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Retry-After 를 포함한 예외도 stack trace 를 기록하지 않음")
+    void retryAfter_stackless() {
+        AppException appException = new AppException(ErrorCode.AUTH_OVERLOADED, 1);
+
+        assertThat(appException.getRetryAfterSeconds()).isEqualTo(1L);
+        assertThat(appException.getStackTrace()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("stack trace 기록 설정 시 매번 stack trace 를 기록한 새 인스턴스 생성")
+    void of_stackTraceEnabled() {
+        AppException appException = AppException.of(ErrorCode.POST_NOT_FOUND, true);
+
+        assertThat(appException).isNotSameAs(AppException.of(ErrorCode.POST_NOT_FOUND, true));
+        assertThat(appException.getStackTrace()).isNotEmpty();
+    }
+}
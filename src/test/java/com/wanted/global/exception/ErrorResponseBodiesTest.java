@@ -0,0 +1,46 @@
+package com.wanted.global.exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wanted.global.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorResponseBodiesTest {
+
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("모든 ErrorCode 의 본문이 Response.error 를 직렬화한 결과와 같음")
+    void of_sameAsObjectMapper() throws Exception {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            byte[] expected = objectMapper.writeValueAsBytes(Response.error(errorCode.getMessage()));
+
+            assertThat(ErrorResponseBodies.of(errorCode)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 ErrorCode 는 매번 같은 바이트 배열을 반환 (요청마다 직렬화하지 않음)")
+    void of_sameInstance() {
+        assertThat(ErrorResponseBodies.of(ErrorCode.INVALID_TOKEN)).isSameAs(ErrorResponseBodies.of(ErrorCode.INVALID_TOKEN));
+    }
+
+    @Test
+    @DisplayName("상태 코드 · Content-Type · Content-Length 와 함께 UTF-8 본문 작성")
+    void write() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        ErrorResponseBodies.write(response, ErrorCode.INVALID_TOKEN);
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(response.getContentType()).isEqualTo(ErrorResponseBodies.CONTENT_TYPE);
+        assertThat(response.getContentLength()).isEqualTo(ErrorResponseBodies.of(ErrorCode.INVALID_TOKEN).length);
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8))
+                .isEqualTo("{\"message\":\"ERROR\",\"result\":\"" + ErrorCode.INVALID_TOKEN.getMessage() + "\"}");
+    }
+}
@@ -0,0 +1,74 @@
+package com.wanted.global.filter;
+
+import com.wanted.global.security.AuthenticatedUser;
+import com.wanted.global.util.JwtProvider;
+import com.wanted.global.util.JwtProvider.TokenClaims;
+import io.jsonwebtoken.SignatureException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class VerifiedTokenCacheTest {
+
+    String email = "email@email.com";
+    Long userId = 1L;
+
+    JwtProvider jwtProvider = new JwtProvider("secretKey");
+    VerifiedTokenCache tokenCache = new VerifiedTokenCache(100);
+    AtomicInteger parseCount = new AtomicInteger();
+    Function<String, TokenClaims> parser = token -> {
+        parseCount.incrementAndGet();
+        return jwtProvider.parse(token);
+    };
+
+    @Test
+    @DisplayName("같은 토큰으로 반복 요청 시 서명 검증 · 파싱은 한 번만 수행")
+    void getUser_cached() {
+        String token = jwtProvider.createToken(userId, email);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(tokenCache.getUser(token, parser)).isEqualTo(new AuthenticatedUser(userId, email));
+        }
+
+        assertThat(parseCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("서로 다른 토큰은 각각 검증")
+    void getUser_differentTokens() {
+        String token1 = jwtProvider.createToken(userId, email);
+        String token2 = jwtProvider.createToken(2L, "other@email.com");
+
+        assertThat(tokenCache.getUser(token1, parser)).isEqualTo(new AuthenticatedUser(userId, email));
+        assertThat(tokenCache.getUser(token2, parser)).isEqualTo(new AuthenticatedUser(2L, "other@email.com"));
+        assertThat(parseCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 토큰은 캐시하지 않고 null 반환")
+    void getUser_expired() {
+        Function<String, TokenClaims> expiredParser = token -> {
+            parseCount.incrementAndGet();
+            return new TokenClaims(email, userId, System.currentTimeMillis() - 1000);
+        };
+
+        assertThat(tokenCache.getUser("expired", expiredParser)).isNull();
+        assertThat(tokenCache.getUser("expired", expiredParser)).isNull();
+        assertThat(parseCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("위조된 토큰은 예외가 전달되고 캐시되지 않음")
+    void getUser_invalidSignature() {
+        String token = new JwtProvider("otherKey").createToken(userId, email);
+
+        assertThrows(SignatureException.class, () -> tokenCache.getUser(token, parser));
+        assertThrows(SignatureException.class, () -> tokenCache.getUser(token, parser));
+        assertThat(parseCount.get()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,98 @@
+package com.wanted.global.metrics;
+
+import com.wanted.global.concurrent.PasswordHashingExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ConnectionHoldTimeDataSourceTest {
+
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    DataSource targetDataSource = mock(DataSource.class);
+    Connection targetConnection = mock(Connection.class);
+
+    ConnectionHoldTimeDataSource dataSource = new ConnectionHoldTimeDataSource(targetDataSource,
+            new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry)).getBeanProvider(MeterRegistry.class));
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("커넥션 반환 시 요청 엔드포인트별로 점유 시간 기록")
+    void recordHoldTimeByEndpoint() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/users/login");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/users/login");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        given(targetDataSource.getConnection()).willReturn(targetConnection);
+
+        Connection connection = dataSource.getConnection();
+        connection.close();
+        connection.close();
+
+        Timer timer = meterRegistry.get(ConnectionHoldTimeDataSource.METRIC_NAME)
+                .tag("method", "POST")
+                .tag("uri", "/api/v1/users/login")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+        verify(targetConnection, times(2)).close();
+    }
+
+    @Test
+    @DisplayName("요청 밖에서 사용한 커넥션은 NONE 으로 기록")
+    void recordHoldTimeOutsideRequest() throws Exception {
+        given(targetDataSource.getConnection()).willReturn(targetConnection);
+
+        dataSource.getConnection().close();
+
+        assertThat(meterRegistry.get(ConnectionHoldTimeDataSource.METRIC_NAME).tag("uri", "NONE").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로그인 요청이 비밀번호 해싱 스레드 풀에서 사용한 커넥션도 로그인 엔드포인트로 기록")
+    void recordHoldTimeOnHashingPool() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/users/login");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/users/login");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        given(targetDataSource.getConnection()).willReturn(targetConnection);
+        PasswordHashingExecutor passwordHashingExecutor = new PasswordHashingExecutor(1);
+
+        try {
+            passwordHashingExecutor.submit(() -> {
+                try (Connection connection = dataSource.getConnection()) {
+                    return connection;
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            }).join();
+        } finally {
+            passwordHashingExecutor.shutdown();
+        }
+
+        Timer timer = meterRegistry.get(ConnectionHoldTimeDataSource.METRIC_NAME)
+                .tag("method", "POST")
+                .tag("uri", "/api/v1/users/login")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,69 @@
+package com.wanted.global.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wanted.global.Response;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PhaseTimerTest {
+
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private PhaseTimer phaseTimer(String phase) {
+        return new PhaseTimer(new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry)).getBeanProvider(MeterRegistry.class), phase);
+    }
+
+    private Timer timer(String phase) {
+        return meterRegistry.get(PhaseTimer.METRIC_NAME)
+                .tag("phase", phase)
+                .timer();
+    }
+
+    @Test
+    @DisplayName("처리 단계별로 소요 시간 기록, 예외가 발생해도 기록")
+    void recordByPhase() {
+        PhaseTimer tokenVerifyTimer = phaseTimer(PhaseTimer.TOKEN_VERIFY);
+
+        String result = tokenVerifyTimer.record(() -> "result");
+        assertThatThrownBy(() -> tokenVerifyTimer.record(() -> {
+            throw new IllegalStateException();
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(result).isEqualTo("result");
+        assertThat(timer(PhaseTimer.TOKEN_VERIFY).count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("비밀번호 해싱 · 비교 시간 기록")
+    void recordPasswordHash() {
+        TimedBCryptPasswordEncoder encoder = new TimedBCryptPasswordEncoder(phaseTimer(PhaseTimer.PASSWORD_HASH));
+
+        String encodedPassword = encoder.encode("password");
+
+        assertThat(encoder.matches("password", encodedPassword)).isTrue();
+        assertThat(timer(PhaseTimer.PASSWORD_HASH).count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("응답 JSON 직렬화 시간 기록")
+    void recordSerialize() throws Exception {
+        TimedJackson2HttpMessageConverter converter = new TimedJackson2HttpMessageConverter(new ObjectMapper(), phaseTimer(PhaseTimer.SERIALIZE));
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+        converter.write(Response.success("result"), MediaType.APPLICATION_JSON, outputMessage);
+
+        assertThat(outputMessage.getBodyAsString()).isEqualTo("{\"message\":\"SUCCESS\",\"result\":\"result\"}");
+        assertThat(timer(PhaseTimer.SERIALIZE).count()).isEqualTo(1);
+    }
+}
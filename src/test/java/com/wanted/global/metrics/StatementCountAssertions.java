@@ -0,0 +1,31 @@
+package com.wanted.global.metrics;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트용 : 작업 1건에서 실행한 SQL 문 수 검증
+ * ConnectionHoldTimeDataSource 로 감싼 DataSource (MetricsConfig) 를 사용하는 테스트에서 사용
+ * 예외가 발생하는 작업은 catchThrowable 로 감싸서 전달
+ */
+public final class StatementCountAssertions {
+
+    private StatementCountAssertions() {
+    }
+
+    public static <T> T assertStatementCount(int expected, Supplier<T> action) {
+        StatementCounter counter = StatementCounter.start(Integer.MAX_VALUE, false);
+        T result;
+        try {
+            result = action.get();
+        } finally {
+            StatementCounter.stop();
+        }
+
+        assertThat(counter.getCount())
+                .as("실행된 SQL 문 수")
+                .isEqualTo(expected);
+        return result;
+    }
+}
@@ -0,0 +1,48 @@
+package com.wanted.global.metrics;
+
+import com.wanted.global.exception.AppException;
+import com.wanted.global.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StatementCounterTest {
+
+    @AfterEach
+    void tearDown() {
+        StatementCounter.stop();
+    }
+
+    @Test
+    @DisplayName("측정 중인 스레드의 Statement 생성 횟수만 기록")
+    void countOnlyWhileStarted() {
+        StatementCounter.increment();
+
+        StatementCounter counter = StatementCounter.start(1, false);
+        StatementCounter.increment();
+        StatementCounter.increment();
+
+        assertThat(StatementCounter.stop()).isSameAs(counter);
+        StatementCounter.increment();
+
+        assertThat(counter.getCount()).isEqualTo(2);
+        assertThat(counter.isExceeded()).isTrue();
+        assertThat(StatementCounter.stop()).isNull();
+    }
+
+    @Test
+    @DisplayName("거절 설정 시 허용 수를 초과하는 Statement 생성 시 예외 발생")
+    void rejectOverBudget() {
+        StatementCounter counter = StatementCounter.start(1, true);
+        StatementCounter.increment();
+
+        assertThatThrownBy(StatementCounter::increment)
+                .isInstanceOf(AppException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.STATEMENT_BUDGET_EXCEEDED);
+        assertThat(counter.getCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,39 @@
+package com.wanted.global.ratelimit;
+
+import com.wanted.global.exception.AppException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.wanted.global.constants.PostConstants.EXPORT_RETRY_AFTER_SECONDS;
+import static com.wanted.global.exception.ErrorCode.EXPORT_OVERLOADED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ExportConcurrencyLimiterTest {
+
+    @Test
+    @DisplayName("동시 내보내기가 허용 수를 초과하면 Retry-After 와 함께 예외 발생")
+    void acquire_fail_overLimit() {
+        ExportConcurrencyLimiter limiter = new ExportConcurrencyLimiter(2);
+
+        limiter.acquire();
+        limiter.acquire();
+        AppException appException = assertThrows(AppException.class, limiter::acquire);
+
+        assertThat(appException.getErrorCode()).isEqualTo(EXPORT_OVERLOADED);
+        assertThat(appException.getRetryAfterSeconds()).isEqualTo(EXPORT_RETRY_AFTER_SECONDS);
+    }
+
+    @Test
+    @DisplayName("끝난 내보내기만큼 다시 허용")
+    void acquire_afterRelease() {
+        ExportConcurrencyLimiter limiter = new ExportConcurrencyLimiter(1);
+
+        limiter.acquire();
+        assertThrows(AppException.class, limiter::acquire);
+
+        limiter.release();
+        assertDoesNotThrow(limiter::acquire);
+    }
+}
@@ -0,0 +1,116 @@
+package com.wanted.global.ratelimit;
+
+import com.wanted.global.exception.AppException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.wanted.global.exception.ErrorCode.TOO_MANY_LOGIN_ATTEMPTS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LoginRateLimiterTest {
+
+    AtomicLong now = new AtomicLong(0L);
+    // 1분 동안 계정별 3회, IP 별 5회
+    LoginRateLimiter loginRateLimiter = new LoginRateLimiter(3, 5, Duration.ofMinutes(1), Duration.ofMinutes(10), 1000, now::get);
+
+    String email = "email@email.com";
+    String ip = "127.0.0.1";
+
+    @Test
+    @DisplayName("계정별 허용 횟수 초과 시 다음 토큰이 채워질 때까지의 시간(초)과 함께 TOO_MANY_LOGIN_ATTEMPTS 예외 발생")
+    void check_fail_account() {
+        for (int i = 0; i < 3; i++) {
+            loginRateLimiter.check(email, ip);
+        }
+
+        AppException appException = assertThrows(AppException.class, () -> loginRateLimiter.check(email, ip));
+
+        assertThat(appException.getErrorCode()).isEqualTo(TOO_MANY_LOGIN_ATTEMPTS);
+        assertThat(appException.getRetryAfterSeconds()).isEqualTo(20L);
+    }
+
+    @Test
+    @DisplayName("이메일 대소문자가 달라도 같은 계정으로 제한")
+    void check_fail_accountIgnoreCase() {
+        loginRateLimiter.check(email, ip);
+        loginRateLimiter.check(email.toUpperCase(), ip);
+        loginRateLimiter.check("Email@email.com", ip);
+
+        assertThrows(AppException.class, () -> loginRateLimiter.check(email, ip));
+    }
+
+    @Test
+    @DisplayName("이메일이 없으면 IP 별로만 제한")
+    void check_nullEmail() {
+        for (int i = 0; i < 5; i++) {
+            assertDoesNotThrow(() -> loginRateLimiter.check(null, ip));
+        }
+
+        assertThrows(AppException.class, () -> loginRateLimiter.check(null, ip));
+    }
+
+    @Test
+    @DisplayName("다른 계정이라도 같은 IP 에서 허용 횟수 초과 시 예외 발생")
+    void check_fail_ip() {
+        for (int i = 0; i < 5; i++) {
+            loginRateLimiter.check("email" + i + "@email.com", ip);
+        }
+
+        assertThrows(AppException.class, () -> loginRateLimiter.check("other@email.com", ip));
+        assertDoesNotThrow(() -> loginRateLimiter.check("other@email.com", "10.0.0.1"));
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 지난 시간만큼 토큰이 채워짐")
+    void check_success_afterRefill() {
+        for (int i = 0; i < 3; i++) {
+            loginRateLimiter.check(email, ip);
+        }
+        assertThrows(AppException.class, () -> loginRateLimiter.check(email, ip));
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(20));
+        assertDoesNotThrow(() -> loginRateLimiter.check(email, ip));
+        assertThrows(AppException.class, () -> loginRateLimiter.check(email, ip));
+
+        now.addAndGet(TimeUnit.MINUTES.toNanos(10));
+        for (int i = 0; i < 3; i++) {
+            loginRateLimiter.check(email, ip);
+        }
+        assertThrows(AppException.class, () -> loginRateLimiter.check(email, ip));
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 요청해도 허용 횟수만큼만 통과")
+    void check_concurrent() throws InterruptedException {
+        LoginRateLimiter limiter = new LoginRateLimiter(100, 10_000, Duration.ofHours(1), Duration.ofMinutes(10), 1000, now::get);
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        CountDownLatch latch = new CountDownLatch(1000);
+        AtomicInteger allowed = new AtomicInteger();
+
+        for (int i = 0; i < 1000; i++) {
+            executorService.execute(() -> {
+                try {
+                    limiter.check(email, ip);
+                    allowed.incrementAndGet();
+                } catch (AppException ignored) {
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        assertThat(allowed.get()).isEqualTo(100);
+    }
+}
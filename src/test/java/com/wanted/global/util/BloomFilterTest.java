@@ -0,0 +1,60 @@
+package com.wanted.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BloomFilterTest {
+
+    int insertions = 10_000;
+    double falsePositiveProbability = 0.01;
+
+    @Test
+    @DisplayName("추가한 값은 항상 포함된 것으로 판단 (false negative 없음)")
+    void mightContain_noFalseNegative() {
+        BloomFilter bloomFilter = new BloomFilter(insertions, falsePositiveProbability);
+        for (int i = 0; i < insertions; i++) {
+            bloomFilter.put("user" + i + "@email.com");
+        }
+
+        for (int i = 0; i < insertions; i++) {
+            assertThat(bloomFilter.mightContain("user" + i + "@email.com")).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("추가하지 않은 값의 오탐률이 설정한 오탐률 수준으로 유지")
+    void mightContain_falsePositiveProbability() {
+        BloomFilter bloomFilter = new BloomFilter(insertions, falsePositiveProbability);
+        for (int i = 0; i < insertions; i++) {
+            bloomFilter.put("user" + i + "@email.com");
+        }
+
+        int falsePositives = 0;
+        int trials = 100_000;
+        for (int i = 0; i < trials; i++) {
+            if (bloomFilter.mightContain("unknown" + i + "@email.com")) {
+                falsePositives++;
+            }
+        }
+
+        assertThat((double) falsePositives / trials).isLessThan(falsePositiveProbability * 2);
+    }
+
+    @Test
+    @DisplayName("비어있는 filter 는 어떤 값도 포함하지 않음")
+    void mightContain_empty() {
+        BloomFilter bloomFilter = new BloomFilter(insertions, falsePositiveProbability);
+
+        assertThat(bloomFilter.mightContain("email@email.com")).isFalse();
+    }
+
+    @Test
+    @DisplayName("잘못된 크기 · 오탐률로 생성 시 예외 발생")
+    void create_fail() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, falsePositiveProbability));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(insertions, 1.0));
+    }
+}
@@ -0,0 +1,112 @@
+package com.wanted.global.util;
+
+import com.wanted.global.constants.JwtConstants;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JwtProviderTest {
+
+    String secretKey = "secretKey";
+    String email = "email@email.com";
+    Long userId = 1L;
+
+    JwtProvider jwtProvider = new JwtProvider(secretKey);
+
+    @Test
+    @DisplayName("발급한 토큰을 검증하여 email · 회원 id · 만료 시각 반환")
+    void createToken_parse() {
+        String token = jwtProvider.createToken(userId, email);
+
+        JwtProvider.TokenClaims claims = jwtProvider.parse(token);
+
+        assertThat(claims.email()).isEqualTo(email);
+        assertThat(claims.userId()).isEqualTo(userId);
+        assertThat(claims.expiresAt()).isGreaterThan(System.currentTimeMillis());
+    }
+
+    @Test
+    @DisplayName("jjwt(JwtUtil) 와 서로 발급한 토큰을 검증할 수 있음")
+    void compatibleWithJwtUtil() {
+        JwtProvider.TokenClaims claims = jwtProvider.parse(JwtUtil.createToken(userId, email, secretKey));
+        assertThat(claims.email()).isEqualTo(email);
+        assertThat(claims.userId()).isEqualTo(userId);
+
+        String token = jwtProvider.createToken(userId, email);
+        assertThat(JwtUtil.getUserEmail(token, secretKey)).isEqualTo(email);
+        assertThat(JwtUtil.getClaims(token, secretKey).get(JwtConstants.USER_ID_CLAIM, Long.class)).isEqualTo(userId);
+    }
+
+    @Test
+    @DisplayName("회원 id 가 포함되기 전에 발급된 토큰은 회원 id 없이 검증")
+    void parse_withoutUserId() {
+        String token = Jwts.builder()
+                .setSubject(email)
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(SignatureAlgorithm.HS256, secretKey)
+                .compact();
+
+        JwtProvider.TokenClaims claims = jwtProvider.parse(token);
+
+        assertThat(claims.email()).isEqualTo(email);
+        assertThat(claims.userId()).isNull();
+    }
+
+    @Test
+    @DisplayName("특수문자가 포함된 email 도 JSON 으로 올바르게 발급")
+    void createToken_escape() {
+        String specialEmail = "a\"b\\c@email.com";
+
+        assertThat(jwtProvider.parse(jwtProvider.createToken(userId, specialEmail)).email()).isEqualTo(specialEmail);
+        assertThat(JwtUtil.getUserEmail(jwtProvider.createToken(userId, specialEmail), secretKey)).isEqualTo(specialEmail);
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰은 예외 발생")
+    void parse_fail_signature() {
+        String token = new JwtProvider("otherKey").createToken(userId, email);
+
+        assertThrows(SignatureException.class, () -> jwtProvider.parse(token));
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 예외 발생")
+    void parse_fail_expired() {
+        String token = Jwts.builder()
+                .setSubject(email)
+                .setExpiration(new Date(System.currentTimeMillis() - 1000))
+                .signWith(SignatureAlgorithm.HS256, secretKey)
+                .compact();
+
+        assertThrows(ExpiredJwtException.class, () -> jwtProvider.parse(token));
+    }
+
+    @Test
+    @DisplayName("서명 알고리즘이 HS256 이 아닌 토큰은 예외 발생")
+    void parse_fail_algorithm() {
+        String token = jwtProvider.createToken(userId, email);
+        String noneHeader = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(UnsupportedJwtException.class, () -> jwtProvider.parse(noneHeader + token.substring(token.indexOf('.'))));
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 토큰은 예외 발생")
+    void parse_fail_malformed() {
+        assertThrows(MalformedJwtException.class, () -> jwtProvider.parse("invalidToken"));
+        assertThrows(MalformedJwtException.class, () -> jwtProvider.parse("a.b.c.d"));
+    }
+}
@@ -0,0 +1,80 @@
+package com.wanted.service;
+
+import com.wanted.domain.post.PostRepository;
+import com.wanted.domain.post.dto.PostGetResponse;
+import com.wanted.domain.post.search.PostSearchIndex;
+import com.wanted.domain.user.UserRepository;
+import com.wanted.global.config.CacheConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(classes = {CacheConfig.class, PostService.class},
+        properties = {"cache.post.maximum-size=100", "cache.post.expire-after-write=1m"})
+class PostServiceConcurrencyTest {
+
+    @MockBean
+    private PostRepository postRepository;
+    @MockBean
+    private UserRepository userRepository;
+    @MockBean
+    private PostSearchIndex postSearchIndex;
+    @Autowired
+    private PostService postService;
+
+    Long postId = 1L;
+    int concurrentRequests = 100;
+
+    @Test
+    @DisplayName("동일한 게시글을 동시에 조회해도 DB 조회는 1회만 발생")
+    void getPost_concurrentCacheMiss_loadsOnce() throws Exception {
+        //given
+        PostGetResponse postGetResponse = PostGetResponse.builder()
+                .postId(postId)
+                .author("email")
+                .title("title")
+                .body("body")
+                .build();
+
+        given(postRepository.findPostGetResponseById(postId))
+                .willAnswer(invocation -> {
+                    Thread.sleep(200);
+                    return Optional.of(postGetResponse);
+                });
+
+        ExecutorService executorService = Executors.newFixedThreadPool(concurrentRequests);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<PostGetResponse>> futures = new ArrayList<>();
+
+        //when
+        for (int i = 0; i < concurrentRequests; i++) {
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                return postService.getPost(postId);
+            }));
+        }
+        startLatch.countDown();
+
+        //then
+        for (Future<PostGetResponse> future : futures) {
+            assertThat(future.get().getPostId()).isEqualTo(postId);
+        }
+        executorService.shutdown();
+        verify(postRepository, times(1)).findPostGetResponseById(postId);
+    }
+}
@@ -0,0 +1,141 @@
+package com.wanted.service;
+
+import com.wanted.domain.post.Post;
+import com.wanted.domain.post.PostRepository;
+import com.wanted.domain.post.dto.PostBulkCreateResponse;
+import com.wanted.domain.post.dto.PostCreateRequest;
+import com.wanted.domain.post.dto.PostUpdateRequest;
+import com.wanted.domain.post.search.PostSearchIndex;
+import com.wanted.domain.user.User;
+import com.wanted.domain.user.UserRepository;
+import com.wanted.global.config.MetricsConfig;
+import com.wanted.global.exception.AppException;
+import com.wanted.global.security.AuthenticatedUser;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.Collections;
+import java.util.List;
+
+import static com.wanted.global.metrics.StatementCountAssertions.assertStatementCount;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * 게시글 조회 · 수정 · 삭제 시 실행되는 SQL 문 수 검증 (게시글 · DTO 변경으로 인한 N+1 조회 방지)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:wanted-db;MODE=MySQL;NON_KEYWORDS=USER",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({MetricsConfig.class, JacksonAutoConfiguration.class, PostService.class})
+class PostServiceStatementCountTest {
+
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManager em;
+    @MockBean
+    private PostSearchIndex postSearchIndex;
+
+    Long postId;
+    AuthenticatedUser author;
+    AuthenticatedUser otherUser;
+    PostUpdateRequest postUpdateRequest = PostUpdateRequest.builder()
+            .title("updated title")
+            .body("updated body")
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        User author1 = userRepository.save(User.builder().email("author1@email.com").password("password").build());
+        User author2 = userRepository.save(User.builder().email("author2@email.com").password("password").build());
+        author = new AuthenticatedUser(author1.getId(), author1.getEmail());
+        otherUser = new AuthenticatedUser(author2.getId(), author2.getEmail());
+
+        for (int i = 0; i < 30; i++) {
+            Post post = postRepository.save(Post.builder()
+                    .user(i % 2 == 0 ? author1 : author2)
+                    .title("title" + i)
+                    .body("body" + i)
+                    .build());
+            if (postId == null) {
+                postId = post.getId();
+            }
+        }
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("게시글 페이징 조회 : 작성자를 포함한 게시글 조회 1회 + COUNT 1회")
+    void getPostPage() {
+        assertStatementCount(2, () -> postService.getPostPage(PageRequest.of(0, 10)));
+    }
+
+    @Test
+    @DisplayName("게시글 단건 조회 : 작성자를 포함한 게시글 조회 1회")
+    void getPost() {
+        assertStatementCount(1, () -> postService.getPost(postId));
+    }
+
+    @Test
+    @DisplayName("게시글 일괄 작성 : 게시글 수와 관계없이 batch insert 1회")
+    void createPosts() {
+        List<PostCreateRequest> requestDtos = Collections.nCopies(500, PostCreateRequest.builder()
+                .title("bulk title")
+                .body("bulk body")
+                .build());
+
+        PostBulkCreateResponse response = assertStatementCount(1, () -> postService.createPosts(requestDtos, author));
+
+        assertThat(response.getPostIds()).hasSize(500).doesNotHaveDuplicates();
+        assertThat(postRepository.count()).isEqualTo(530);
+    }
+
+    @Test
+    @DisplayName("게시글 수정 : 작성자 · 버전 조건을 포함한 UPDATE 1회")
+    void updatePost() {
+        assertStatementCount(1, () -> postService.updatePost(postUpdateRequest, postId, author, null));
+    }
+
+    @Test
+    @DisplayName("게시글 수정 실패 : UPDATE 1회 + 원인 확인을 위한 게시글 조회 1회")
+    void updatePost_userNotMatch() {
+        Throwable thrown = assertStatementCount(2, () -> catchThrowable(() -> postService.updatePost(postUpdateRequest, postId, otherUser, null)));
+
+        assertThat(thrown).isInstanceOf(AppException.class);
+    }
+
+    @Test
+    @DisplayName("게시글 수정 (회원 id 가 없는 이전 토큰) : 회원 조회 1회 + UPDATE 1회")
+    void updatePost_legacyToken() {
+        AuthenticatedUser legacyUser = new AuthenticatedUser(null, author.email());
+
+        assertStatementCount(2, () -> postService.updatePost(postUpdateRequest, postId, legacyUser, null));
+    }
+
+    @Test
+    @DisplayName("게시글 삭제 : 작성자 · 버전 조건을 포함한 DELETE 1회")
+    void deletePost() {
+        assertStatementCount(1, () -> postService.deletePost(postId, author, null));
+    }
+}
@@ -3,12 +3,16 @@ package com.wanted.service;
 import com.wanted.domain.post.Post;
 import com.wanted.domain.post.PostRepository;
 import com.wanted.domain.post.dto.*;
+import com.wanted.domain.post.search.PostSearchIndex;
+import com.wanted.domain.post.search.PostSearchResult;
 import com.wanted.domain.user.User;
 import com.wanted.domain.user.UserRepository;
 import com.wanted.domain.user.dto.UserCreateRequest;
 import com.wanted.domain.user.dto.UserCreateResponse;
 import com.wanted.domain.user.dto.UserLoginRequest;
 import com.wanted.global.exception.AppException;
+import com.wanted.global.security.AuthenticatedUser;
+import com.wanted.global.util.CursorUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -22,17 +26,26 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import static com.wanted.global.constants.PostConstants.MAX_BULK_CREATE_SIZE;
+import static com.wanted.global.constants.PostConstants.SEARCH_RETRY_AFTER_SECONDS;
 import static com.wanted.global.exception.ErrorCode.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class PostServiceTest {
@@ -43,6 +56,9 @@ class PostServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private PostSearchIndex postSearchIndex;
+
     @Mock
     private User mockUser;
 
@@ -56,10 +72,15 @@ class PostServiceTest {
     String email = "email";
     Long postId = 1L;
     Long userId = 1L;
+    Long version = 0L;
     Pageable pageable = PageRequest.of(0, 20);
+    AuthenticatedUser authenticatedUser = new AuthenticatedUser(userId, email);
+    // 회원 id 가 포함되기 전에 발급된 토큰
+    AuthenticatedUser legacyUser = new AuthenticatedUser(null, email);
 
 
     PostCreateRequest postCreateRequest;
+    PostGetResponse postGetResponse;
     PostUpdateRequest postUpdateRequest;
     PostDeleteResponse postDeleteResponse;
 
@@ -70,6 +91,14 @@ class PostServiceTest {
                 .body(body)
                 .build();
 
+        postGetResponse = PostGetResponse.builder()
+                .postId(postId)
+                .author(email)
+                .title(title)
+                .body(body)
+                .version(version)
+                .build();
+
         postUpdateRequest = PostUpdateRequest.builder()
                 .title(title)
                 .body(body)
@@ -77,8 +106,6 @@ class PostServiceTest {
 
         postDeleteResponse = PostDeleteResponse.builder()
                 .postId(postId)
-                .title(title)
-                .body(body)
                 .build();
     }
 
@@ -87,11 +114,11 @@ class PostServiceTest {
     class CreatePost {
 
         @Test
-        @DisplayName("성공")
+        @DisplayName("성공 - 토큰의 회원 id 로 작성자 참조만 만들고 회원은 조회하지 않음")
         void createPost_success() {
             //given
-            given(userRepository.findByEmail(email))
-                    .willReturn(Optional.of(mockUser));
+            given(userRepository.getReferenceById(userId))
+                    .willReturn(mockUser);
             given(postRepository.save(any(Post.class)))
                     .willReturn(mockPost);
             given(mockPost.getUser())
@@ -107,7 +134,7 @@ class PostServiceTest {
 
 
             //when
-            PostCreateResponse response = postService.createPost(postCreateRequest, email);
+            PostCreateResponse response = postService.createPost(postCreateRequest, authenticatedUser);
 
             //then
             assertThat(response).isNotNull();
@@ -115,19 +142,41 @@ class PostServiceTest {
             assertThat(response.getUserId()).isEqualTo(userId);
             assertThat(response.getTitle()).isEqualTo(title);
             assertThat(response.getBody()).isEqualTo(body);
-            verify(userRepository, atLeastOnce()).findByEmail(email);
+            verify(userRepository, never()).findByEmail(any());
             verify(postRepository, atLeastOnce()).save(any(Post.class));
         }
 
         @Test
-        @DisplayName("실패 - 가입된 회원이 아닌 경우 예외 발생")
+        @DisplayName("성공 - 회원 id 가 없는 이전 토큰은 email 로 회원 조회")
+        void createPost_success_legacyToken() {
+            //given
+            given(userRepository.findByEmail(email))
+                    .willReturn(Optional.of(mockUser));
+            given(postRepository.save(any(Post.class)))
+                    .willReturn(mockPost);
+            given(mockPost.getUser())
+                    .willReturn(mockUser);
+            given(mockUser.getId())
+                    .willReturn(userId);
+
+            //when
+            PostCreateResponse response = postService.createPost(postCreateRequest, legacyUser);
+
+            //then
+            assertThat(response.getUserId()).isEqualTo(userId);
+            verify(userRepository, atLeastOnce()).findByEmail(email);
+            verify(userRepository, never()).getReferenceById(any());
+        }
+
+        @Test
+        @DisplayName("실패 - 이전 토큰의 email 로 가입된 회원이 아닌 경우 예외 발생")
         void createPost_fail_userNotFound() {
             //given
             given(userRepository.findByEmail(email))
                     .willReturn(Optional.empty());
 
             //when
-            AppException appException = assertThrows(AppException.class, () -> postService.createPost(postCreateRequest, email));
+            AppException appException = assertThrows(AppException.class, () -> postService.createPost(postCreateRequest, legacyUser));
 
             //then
             assertThat(appException.getErrorCode()).isEqualTo(USER_NOT_FOUND);
@@ -135,6 +184,63 @@ class PostServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("게시글 일괄 등록 테스트")
+    class CreatePosts {
+
+        @Test
+        @DisplayName("성공 - 작성자 참조는 한 번만 생성하고 회원은 조회하지 않음")
+        void createPosts_success() {
+            //given
+            given(userRepository.getReferenceById(userId))
+                    .willReturn(mockUser);
+            given(postRepository.insertAll(any()))
+                    .willReturn(List.of(postId, postId + 1));
+            given(mockUser.getId())
+                    .willReturn(userId);
+
+            //when
+            PostBulkCreateResponse response = postService.createPosts(List.of(postCreateRequest, postCreateRequest), authenticatedUser);
+
+            //then
+            assertThat(response.getUserId()).isEqualTo(userId);
+            assertThat(response.getCreatedCount()).isEqualTo(2);
+            assertThat(response.getPostIds()).containsExactly(postId, postId + 1);
+            verify(userRepository, times(1)).getReferenceById(userId);
+            verify(userRepository, never()).findByEmail(any());
+            verify(postRepository, times(1)).insertAll(any());
+            verify(postSearchIndex).index(postId + 1, postCreateRequest.getTitle(), postCreateRequest.getBody());
+        }
+
+        @Test
+        @DisplayName("실패 - 최대 개수를 초과한 경우 예외 발생")
+        void createPosts_fail_sizeExceeded() {
+            //given
+            List<PostCreateRequest> requestDtos = Collections.nCopies(MAX_BULK_CREATE_SIZE + 1, postCreateRequest);
+
+            //when
+            AppException appException = assertThrows(AppException.class, () -> postService.createPosts(requestDtos, authenticatedUser));
+
+            //then
+            assertThat(appException.getErrorCode()).isEqualTo(BULK_SIZE_EXCEEDED);
+            verify(userRepository, never()).getReferenceById(any());
+        }
+
+        @Test
+        @DisplayName("실패 - 이전 토큰의 email 로 가입된 회원이 아닌 경우 예외 발생")
+        void createPosts_fail_userNotFound() {
+            //given
+            given(userRepository.findByEmail(email))
+                    .willReturn(Optional.empty());
+
+            //when
+            AppException appException = assertThrows(AppException.class, () -> postService.createPosts(List.of(postCreateRequest), legacyUser));
+
+            //then
+            assertThat(appException.getErrorCode()).isEqualTo(USER_NOT_FOUND);
+        }
+    }
+
     @Nested
     @DisplayName("게시글 조회 테스트")
     class GetPost {
@@ -143,19 +249,8 @@ class PostServiceTest {
         @DisplayName("단건 조회 성공")
         void getPost_success() {
             //given
-            given(postRepository.findById(postId))
-                    .willReturn(Optional.of(mockPost));
-            given(mockPost.getUser())
-                    .willReturn(mockUser);
-            given(mockUser.getEmail())
-                    .willReturn(email);
-            given(mockPost.getId())
-                    .willReturn(postId);
-            given(mockPost.getTitle())
-                    .willReturn(title);
-            given(mockPost.getBody())
-                    .willReturn(body);
-
+            given(postRepository.findPostGetResponseById(postId))
+                    .willReturn(Optional.of(postGetResponse));
 
             //when
             PostGetResponse response = postService.getPost(postId);
@@ -166,7 +261,7 @@ class PostServiceTest {
             assertThat(response.getAuthor()).isEqualTo(email);
             assertThat(response.getTitle()).isEqualTo(title);
             assertThat(response.getBody()).isEqualTo(body);
-            verify(postRepository, atLeastOnce()).findById(postId);
+            verify(postRepository, atLeastOnce()).findPostGetResponseById(postId);
         }
 
 
@@ -174,7 +269,7 @@ class PostServiceTest {
         @DisplayName("단건 조회 실패 - 존재하지 않은 postId 조회 요청 시 실패")
         void getPost_fail() {
             //given
-            given(postRepository.findById(postId))
+            given(postRepository.findPostGetResponseById(postId))
                     .willReturn(Optional.empty());
 
             //when
@@ -182,25 +277,15 @@ class PostServiceTest {
 
             //then
             assertThat(appException.getErrorCode()).isEqualTo(POST_NOT_FOUND);
-            verify(postRepository, atLeastOnce()).findById(postId);
+            verify(postRepository, atLeastOnce()).findPostGetResponseById(postId);
         }
 
         @Test
         @DisplayName("목록 조회 성공")
         void getPostPage_success() {
             //given
-            given(postRepository.findAll(pageable))
-                    .willReturn(new PageImpl<>(List.of(mockPost)));
-            given(mockPost.getUser())
-                    .willReturn(mockUser);
-            given(mockUser.getEmail())
-                    .willReturn(email);
-            given(mockPost.getId())
-                    .willReturn(postId);
-            given(mockPost.getTitle())
-                    .willReturn(title);
-            given(mockPost.getBody())
-                    .willReturn(body);
+            given(postRepository.findPostGetResponses(pageable))
+                    .willReturn(new PageImpl<>(List.of(postGetResponse)));
 
 
             //when
@@ -209,7 +294,183 @@ class PostServiceTest {
             //then
             assertThat(response).isNotNull();
             assertThat(response.getTotalElements()).isEqualTo(1);
-            verify(postRepository, atLeastOnce()).findAll(pageable);
+            verify(postRepository, atLeastOnce()).findPostGetResponses(pageable);
+        }
+
+        @Test
+        @DisplayName("커서 조회 성공 - 커서 없이 요청 시 최신 게시글부터 조회")
+        void getPostCursorPage_success() {
+            //given
+            given(postRepository.findPostGetResponsesOrderByIdDesc(PageRequest.of(0, 2)))
+                    .willReturn(List.of(postGetResponse, postGetResponse));
+
+            //when
+            PostCursorResponse response = postService.getPostCursorPage(null, null, 1);
+
+            //then
+            assertThat(response.getContent()).hasSize(1);
+            assertThat(response.getNextCursor()).isEqualTo(CursorUtil.encode(postId));
+            assertThat(response.getPrevCursor()).isNull();
+            verify(postRepository, atLeastOnce()).findPostGetResponsesOrderByIdDesc(PageRequest.of(0, 2));
+        }
+
+        @Test
+        @DisplayName("커서 조회 성공 - after 커서 전달 시 더 오래된 게시글 조회")
+        void getPostCursorPage_success_after() {
+            //given
+            given(postRepository.findPostGetResponsesByIdLessThan(2L, PageRequest.of(0, 21)))
+                    .willReturn(List.of(postGetResponse));
+
+            //when
+            PostCursorResponse response = postService.getPostCursorPage(CursorUtil.encode(2L), null, 20);
+
+            //then
+            assertThat(response.getContent()).hasSize(1);
+            assertThat(response.getNextCursor()).isNull();
+            assertThat(response.getPrevCursor()).isEqualTo(CursorUtil.encode(postId));
+            verify(postRepository, atLeastOnce()).findPostGetResponsesByIdLessThan(2L, PageRequest.of(0, 21));
+        }
+
+        @Test
+        @DisplayName("커서 조회 성공 - before 커서 전달 시 더 최신 게시글을 오름차순으로 조회한 뒤 내림차순으로 반환")
+        void getPostCursorPage_success_before() {
+            //given
+            given(postRepository.findPostGetResponsesByIdGreaterThan(10L, PageRequest.of(0, 3)))
+                    .willReturn(Stream.of(11L, 12L, 13L)
+                            .map(id -> PostGetResponse.builder().postId(id).author(email).title(title).body(body).build())
+                            .toList());
+
+            //when
+            PostCursorResponse response = postService.getPostCursorPage(null, CursorUtil.encode(10L), 2);
+
+            //then
+            assertThat(response.getContent()).extracting(PostGetResponse::getPostId)
+                    .containsExactly(12L, 11L);
+            assertThat(response.getNextCursor()).isEqualTo(CursorUtil.encode(11L));
+            assertThat(response.getPrevCursor()).isEqualTo(CursorUtil.encode(12L));
+        }
+
+        @Test
+        @DisplayName("커서 조회 성공 - before 커서 이후 게시글이 페이지 크기 이하면 이전 커서 없음")
+        void getPostCursorPage_success_before_noPrev() {
+            //given
+            given(postRepository.findPostGetResponsesByIdGreaterThan(10L, PageRequest.of(0, 3)))
+                    .willReturn(Stream.of(11L, 12L)
+                            .map(id -> PostGetResponse.builder().postId(id).author(email).title(title).body(body).build())
+                            .toList());
+
+            //when
+            PostCursorResponse response = postService.getPostCursorPage(null, CursorUtil.encode(10L), 2);
+
+            //then
+            assertThat(response.getContent()).extracting(PostGetResponse::getPostId)
+                    .containsExactly(12L, 11L);
+            assertThat(response.getNextCursor()).isEqualTo(CursorUtil.encode(11L));
+            assertThat(response.getPrevCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("커서 조회 성공 - before 커서 이후 게시글이 없으면 빈 목록과 함께 다음 · 이전 커서 없음")
+        void getPostCursorPage_success_before_empty() {
+            //given
+            given(postRepository.findPostGetResponsesByIdGreaterThan(10L, PageRequest.of(0, 3)))
+                    .willReturn(List.of());
+
+            //when
+            PostCursorResponse response = postService.getPostCursorPage(null, CursorUtil.encode(10L), 2);
+
+            //then
+            assertThat(response.getContent()).isEmpty();
+            assertThat(response.getNextCursor()).isNull();
+            assertThat(response.getPrevCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("내보내기 성공 - 조회된 게시글을 순서대로 전달")
+        void exportPosts_success() {
+            //given
+            given(postRepository.streamAllPostGetResponses())
+                    .willReturn(Stream.of(postGetResponse, postGetResponse));
+            List<PostGetResponse> exported = new ArrayList<>();
+
+            //when
+            postService.exportPosts(exported::add);
+
+            //then
+            assertThat(exported).containsExactly(postGetResponse, postGetResponse);
+            verify(postRepository, atLeastOnce()).streamAllPostGetResponses();
+        }
+
+        @Test
+        @DisplayName("검색 성공 - 검색 점수 순서대로 반환")
+        void searchPosts_success() {
+            //given
+            PostGetResponse otherPost = PostGetResponse.builder()
+                    .postId(2L)
+                    .author(email)
+                    .title(title)
+                    .body(body)
+                    .build();
+
+            given(postSearchIndex.isReady())
+                    .willReturn(true);
+            given(postSearchIndex.search("title", 0, 20))
+                    .willReturn(new PostSearchResult(List.of(2L, postId), 2));
+            given(postRepository.findPostGetResponsesByIdIn(List.of(2L, postId)))
+                    .willReturn(List.of(postGetResponse, otherPost));
+
+            //when
+            Page<PostGetResponse> response = postService.searchPosts("title", pageable);
+
+            //then
+            assertThat(response.getTotalElements()).isEqualTo(2);
+            assertThat(response.getContent()).extracting(PostGetResponse::getPostId)
+                    .containsExactly(2L, postId);
+            verify(postSearchIndex, atLeastOnce()).search("title", 0, 20);
+        }
+
+        @Test
+        @DisplayName("검색 성공 - 일치하는 게시글이 없으면 DB 조회 없이 빈 페이지 반환")
+        void searchPosts_success_empty() {
+            //given
+            given(postSearchIndex.isReady())
+                    .willReturn(true);
+            given(postSearchIndex.search("title", 0, 20))
+                    .willReturn(new PostSearchResult(List.of(), 0));
+
+            //when
+            Page<PostGetResponse> response = postService.searchPosts("title", pageable);
+
+            //then
+            assertThat(response.getContent()).isEmpty();
+            verify(postRepository, never()).findPostGetResponsesByIdIn(any());
+        }
+
+        @Test
+        @DisplayName("검색 실패 - 인덱스 생성 전에는 DB 조회 없이 Retry-After 와 함께 예외 발생")
+        void searchPosts_fail_indexNotReady() {
+            //given
+            given(postSearchIndex.isReady())
+                    .willReturn(false);
+
+            //when
+            AppException appException = assertThrows(AppException.class, () -> postService.searchPosts("title", pageable));
+
+            //then
+            assertThat(appException.getErrorCode()).isEqualTo(SEARCH_NOT_READY);
+            assertThat(appException.getRetryAfterSeconds()).isEqualTo(SEARCH_RETRY_AFTER_SECONDS);
+            verify(postSearchIndex, never()).search(any(), anyLong(), anyInt());
+            verifyNoInteractions(postRepository);
+        }
+
+        @Test
+        @DisplayName("커서 조회 실패 - 유효하지 않은 커서 전달 시 실패")
+        void getPostCursorPage_fail_invalidCursor() {
+            //when
+            AppException appException = assertThrows(AppException.class, () -> postService.getPostCursorPage("invalid cursor", null, 20));
+
+            //then
+            assertThat(appException.getErrorCode()).isEqualTo(INVALID_CURSOR);
         }
 
     }
@@ -220,65 +481,87 @@ class PostServiceTest {
     class UpdatePost {
 
         @Test
-        @DisplayName("성공")
+        @DisplayName("성공 - 작성자 id 조건부 UPDATE 1회로 수정하고 회원 · 게시글은 조회하지 않음")
         void updatePost_success() {
             //given
-            given(userRepository.findByEmail(email))
-                    .willReturn(Optional.of(mockUser));
-            given(postRepository.findById(postId))
-                    .willReturn(Optional.of(mockPost));
-            given(mockPost.checkUser(mockUser))
-                    .willReturn(true);
-            given(mockPost.getId())
-                    .willReturn(postId);
-            given(mockPost.getTitle())
-                    .willReturn(title);
-            given(mockPost.getBody())
-                    .willReturn(body);
-
+            given(postRepository.updateOwnedPost(postId, userId, null, title, body))
+                    .willReturn(1);
 
             //when
-            PostUpdateResponse response = postService.updatePost(postUpdateRequest, postId, email);
+            PostUpdateResponse response = postService.updatePost(postUpdateRequest, postId, authenticatedUser, null);
 
             //then
             assertThat(response).isNotNull();
             assertThat(response.getPostId()).isEqualTo(postId);
             assertThat(response.getTitle()).isEqualTo(title);
             assertThat(response.getBody()).isEqualTo(body);
-            verify(userRepository, atLeastOnce()).findByEmail(email);
-            verify(postRepository, atLeastOnce()).findById(postId);
+            assertThat(response.getVersion()).isNull();
+            verify(postSearchIndex).index(postId, title, body);
+            verify(userRepository, never()).findByEmail(any());
+            verify(postRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("성공 - If-Match 버전으로 수정한 경우 증가된 버전 응답")
+        void updatePost_success_versionMatch() {
+            //given
+            given(postRepository.updateOwnedPost(postId, userId, version, title, body))
+                    .willReturn(1);
+
+            //when
+            PostUpdateResponse response = postService.updatePost(postUpdateRequest, postId, authenticatedUser, version);
+
+            //then
+            assertThat(response.getVersion()).isEqualTo(version + 1);
         }
 
         @Test
-        @DisplayName("실패 - 가입된 회원이 아닌 경우 예외 발생")
+        @DisplayName("성공 - 회원 id 가 없는 이전 토큰은 email 로 회원 id 조회 후 수정")
+        void updatePost_success_legacyToken() {
+            //given
+            given(userRepository.findByEmail(email))
+                    .willReturn(Optional.of(mockUser));
+            given(mockUser.getId())
+                    .willReturn(userId);
+            given(postRepository.updateOwnedPost(postId, userId, null, title, body))
+                    .willReturn(1);
+
+            //when
+            PostUpdateResponse response = postService.updatePost(postUpdateRequest, postId, legacyUser, null);
+
+            //then
+            assertThat(response.getPostId()).isEqualTo(postId);
+        }
+
+        @Test
+        @DisplayName("실패 - 이전 토큰의 email 로 가입된 회원이 아닌 경우 예외 발생")
         void updatePost_fail_userNotFound() {
             //given
             given(userRepository.findByEmail(email))
                     .willReturn(Optional.empty());
 
             //when
-            AppException appException = assertThrows(AppException.class, () -> postService.updatePost(postUpdateRequest, postId, email));
+            AppException appException = assertThrows(AppException.class, () -> postService.updatePost(postUpdateRequest, postId, legacyUser, null));
 
             //then
             assertThat(appException.getErrorCode()).isEqualTo(USER_NOT_FOUND);
-            verify(userRepository, atLeastOnce()).findByEmail(email);
+            verify(postRepository, never()).updateOwnedPost(any(), any(), any(), any(), any());
         }
 
         @Test
         @DisplayName("실패 - postId에 해당하는 게시글이 존재하지 않을 시 예외 발생")
         void updatePost_fail_postNotFound() {
             //given
-            given(userRepository.findByEmail(email))
-                    .willReturn(Optional.of(mockUser));
+            given(postRepository.updateOwnedPost(postId, userId, null, title, body))
+                    .willReturn(0);
             given(postRepository.findById(postId))
                     .willReturn(Optional.empty());
 
             //when
-            AppException appException = assertThrows(AppException.class, () -> postService.updatePost(postUpdateRequest, postId, email));
+            AppException appException = assertThrows(AppException.class, () -> postService.updatePost(postUpdateRequest, postId, authenticatedUser, null));
 
             //then
             assertThat(appException.getErrorCode()).isEqualTo(POST_NOT_FOUND);
-            verify(userRepository, atLeastOnce()).findByEmail(email);
             verify(postRepository, atLeastOnce()).findById(postId);
         }
 
@@ -286,20 +569,38 @@ class PostServiceTest {
         @DisplayName("실패 - 수정 요청자와 작성자가 일치하지 않는 경우 예외 발생")
         void updatePost_fail_userNotMatch() {
             //given
-            given(userRepository.findByEmail(email))
-                    .willReturn(Optional.of(mockUser));
+            given(postRepository.updateOwnedPost(postId, userId, null, title, body))
+                    .willReturn(0);
             given(postRepository.findById(postId))
                     .willReturn(Optional.of(mockPost));
-            given(mockPost.checkUser(mockUser))
+            given(mockPost.isWrittenBy(userId))
                     .willReturn(false);
 
             //when
-            AppException appException = assertThrows(AppException.class, () -> postService.updatePost(postUpdateRequest, postId, email));
+            AppException appException = assertThrows(AppException.class, () -> postService.updatePost(postUpdateRequest, postId, authenticatedUser, null));
 
             //then
             assertThat(appException.getErrorCode()).isEqualTo(USER_NOT_MATCH);
-            verify(userRepository, atLeastOnce()).findByEmail(email);
-            verify(postRepository, atLeastOnce()).findById(postId);
+            verify(postSearchIndex, never()).index(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("실패 - If-Match 버전이 게시글 버전과 일치하지 않는 경우 예외 발생")
+        void updatePost_fail_versionNotMatch() {
+            //given
+            given(postRepository.updateOwnedPost(postId, userId, version, title, body))
+                    .willReturn(0);
+            given(postRepository.findById(postId))
+                    .willReturn(Optional.of(mockPost));
+            given(mockPost.isWrittenBy(userId))
+                    .willReturn(true);
+
+            //when
+            AppException appException = assertThrows(AppException.class, () -> postService.updatePost(postUpdateRequest, postId, authenticatedUser, version));
+
+            //then
+            assertThat(appException.getErrorCode()).isEqualTo(VERSION_NOT_MATCH);
+            verify(postSearchIndex, never()).index(any(), any(), any());
         }
     }
 
@@ -308,69 +609,52 @@ class PostServiceTest {
     class DeletePost {
 
         @Test
-        @DisplayName("성공")
+        @DisplayName("성공 - 작성자 id 조건부 DELETE 1회로 삭제하고 회원 · 게시글은 조회하지 않음")
         void deletePost_success() {
             //given
-            given(userRepository.findByEmail(email))
-                    .willReturn(Optional.of(mockUser));
-            given(postRepository.findById(postId))
-                    .willReturn(Optional.of(mockPost));
-            given(mockPost.checkUser(mockUser))
-                    .willReturn(true);
-            willDoNothing().given(postRepository)
-                    .delete(mockPost);
-            given(mockPost.getId())
-                    .willReturn(postId);
-            given(mockPost.getTitle())
-                    .willReturn(title);
-            given(mockPost.getBody())
-                    .willReturn(body);
-
+            given(postRepository.deleteOwnedPost(postId, userId, null))
+                    .willReturn(1);
 
             //when
-            PostDeleteResponse response = postService.deletePost(postId, email);
+            PostDeleteResponse response = postService.deletePost(postId, authenticatedUser, null);
 
             //then
             assertThat(response).isNotNull();
             assertThat(response.getPostId()).isEqualTo(postId);
-            assertThat(response.getTitle()).isEqualTo(title);
-            assertThat(response.getBody()).isEqualTo(body);
-            verify(userRepository, atLeastOnce()).findByEmail(email);
-            verify(postRepository, atLeastOnce()).findById(postId);
-            verify(postRepository, atLeastOnce()).delete(mockPost);
+            verify(postSearchIndex).remove(postId);
+            verify(userRepository, never()).findByEmail(any());
+            verify(postRepository, never()).findById(any());
         }
 
         @Test
-        @DisplayName("실패 - 가입된 회원이 아닌 경우 예외 발생")
+        @DisplayName("실패 - 이전 토큰의 email 로 가입된 회원이 아닌 경우 예외 발생")
         void deletePost_fail_userNotFound() {
             //given
             given(userRepository.findByEmail(email))
                     .willReturn(Optional.empty());
 
             //when
-            AppException appException = assertThrows(AppException.class, () -> postService.deletePost(postId, email));
+            AppException appException = assertThrows(AppException.class, () -> postService.deletePost(postId, legacyUser, null));
 
             //then
             assertThat(appException.getErrorCode()).isEqualTo(USER_NOT_FOUND);
-            verify(userRepository, atLeastOnce()).findByEmail(email);
+            verify(postRepository, never()).deleteOwnedPost(any(), any(), any());
         }
 
         @Test
         @DisplayName("실패 - postId에 해당하는 게시글이 존재하지 않을 시 예외 발생")
         void deletePost_fail_postNotFound() {
             //given
-            given(userRepository.findByEmail(email))
-                    .willReturn(Optional.of(mockUser));
+            given(postRepository.deleteOwnedPost(postId, userId, null))
+                    .willReturn(0);
             given(postRepository.findById(postId))
                     .willReturn(Optional.empty());
 
-
             //when
-            AppException appException = assertThrows(AppException.class, () -> postService.deletePost(postId, email));
+            AppException appException = assertThrows(AppException.class, () -> postService.deletePost(postId, authenticatedUser, null));
 
             //then
             assertThat(appException.getErrorCode()).isEqualTo(POST_NOT_FOUND);
-            verify(userRepository, atLeastOnce()).findByEmail(email);
             verify(postRepository, atLeastOnce()).findById(postId);
         }
 
@@ -378,23 +662,41 @@ class PostServiceTest {
         @DisplayName("실패 - 수정 요청자와 작성자가 일치하지 않는 경우 예외 발생")
         void deletePost_fail_userNotMatch() {
             //given
-            given(userRepository.findByEmail(email))
-                    .willReturn(Optional.of(mockUser));
+            given(postRepository.deleteOwnedPost(postId, userId, null))
+                    .willReturn(0);
             given(postRepository.findById(postId))
                     .willReturn(Optional.of(mockPost));
-            given(mockPost.checkUser(mockUser))
+            given(mockPost.isWrittenBy(userId))
                     .willReturn(false);
 
             //when
-            AppException appException = assertThrows(AppException.class, () -> postService.deletePost(postId, email));
+            AppException appException = assertThrows(AppException.class, () -> postService.deletePost(postId, authenticatedUser, null));
 
             //then
             assertThat(appException.getErrorCode()).isEqualTo(USER_NOT_MATCH);
-            verify(userRepository, atLeastOnce()).findByEmail(email);
-            verify(postRepository, atLeastOnce()).findById(postId);
-            verify(mockPost, atLeastOnce()).checkUser(mockUser);
+            verify(mockPost, atLeastOnce()).isWrittenBy(userId);
+            verify(postSearchIndex, never()).remove(any());
+        }
+
+        @Test
+        @DisplayName("실패 - If-Match 버전이 게시글 버전과 일치하지 않는 경우 예외 발생")
+        void deletePost_fail_versionNotMatch() {
+            //given
+            given(postRepository.deleteOwnedPost(postId, userId, version))
+                    .willReturn(0);
+            given(postRepository.findById(postId))
+                    .willReturn(Optional.of(mockPost));
+            given(mockPost.isWrittenBy(userId))
+                    .willReturn(true);
+
+            //when
+            AppException appException = assertThrows(AppException.class, () -> postService.deletePost(postId, authenticatedUser, version));
+
+            //then
+            assertThat(appException.getErrorCode()).isEqualTo(VERSION_NOT_MATCH);
+            verify(postSearchIndex, never()).remove(any());
         }
     }
 
 
-}
\ No newline at end of file
+}
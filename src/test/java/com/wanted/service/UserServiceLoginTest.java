@@ -0,0 +1,68 @@
+package com.wanted.service;
+
+import com.wanted.domain.user.RegisteredEmailFilter;
+import com.wanted.domain.user.User;
+import com.wanted.domain.user.UserRepository;
+import com.wanted.domain.user.dto.UserLoginRequest;
+import com.wanted.domain.user.dto.UserLoginResponse;
+import com.wanted.global.util.JwtProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가입 이메일 filter 를 거치지 않고 저장된 회원(다른 인스턴스 · 직접 insert · 복원)의 로그인 검증
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:wanted-db;MODE=MySQL;NON_KEYWORDS=USER",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({UserService.class, RegisteredEmailFilter.class, JwtProvider.class, UserServiceLoginTest.PasswordEncoderConfig.class})
+class UserServiceLoginTest {
+
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RegisteredEmailFilter registeredEmailFilter;
+    @Autowired
+    private BCryptPasswordEncoder encoder;
+
+    @TestConfiguration
+    static class PasswordEncoderConfig {
+        @Bean
+        BCryptPasswordEncoder bCryptPasswordEncoder() {
+            return new BCryptPasswordEncoder();
+        }
+    }
+
+    @Test
+    @DisplayName("filter 생성 이후 repository 로 직접 저장되어 filter 에 없는 회원도 로그인 성공")
+    void loginUser_savedOutsideFilter() {
+        userRepository.save(User.builder().email("before@email.com").password(encoder.encode("password")).build());
+        registeredEmailFilter.rebuild();
+
+        User savedUser = userRepository.save(User.builder().email("after@email.com").password(encoder.encode("password")).build());
+
+        UserLoginResponse response = userService.loginUser(UserLoginRequest.builder()
+                .email("after@email.com")
+                .password("password")
+                .build());
+
+        assertThat(response.getUserId()).isEqualTo(savedUser.getId());
+        assertThat(response.getJwt()).isNotBlank();
+    }
+}
@@ -1,5 +1,6 @@
 package com.wanted.service;
 
+import com.wanted.domain.user.RegisteredEmailFilter;
 import com.wanted.domain.user.User;
 import com.wanted.domain.user.UserRepository;
 import com.wanted.domain.user.dto.UserCreateRequest;
@@ -7,7 +8,7 @@ import com.wanted.domain.user.dto.UserCreateResponse;
 import com.wanted.domain.user.dto.UserLoginRequest;
 import com.wanted.domain.user.dto.UserLoginResponse;
 import com.wanted.global.exception.AppException;
-import com.wanted.global.util.JwtUtil;
+import com.wanted.global.util.JwtProvider;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -15,11 +16,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.beans.factory.annotation.Value;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
+import java.sql.SQLException;
 import java.util.Optional;
 
 import static com.wanted.global.exception.ErrorCode.*;
@@ -41,12 +43,15 @@ class UserServiceTest {
     @Mock
     private BCryptPasswordEncoder encoder;
 
+    @Mock
+    private JwtProvider jwtProvider;
+
+    @Mock
+    private RegisteredEmailFilter registeredEmailFilter;
+
     @InjectMocks
     private UserService userService;
 
-    @Value("${jwt.secret}")
-    private String secretKey;
-
     Long userId = 1L;
     String email = "email";
     String password = "password";
@@ -76,6 +81,8 @@ class UserServiceTest {
         @DisplayName("성공")
         void createUser_success() {
             //given
+            given(registeredEmailFilter.mightContain(email))
+                    .willReturn(true);
             given(userRepository.existsByEmail(email))
                     .willReturn(false);
             given(encoder.encode(password))
@@ -93,12 +100,37 @@ class UserServiceTest {
             assertThat(response.getEmail()).isEqualTo(email);
             verify(userRepository, atLeastOnce()).existsByEmail(email);
             verify(userRepository).save(any(User.class));
+            verify(registeredEmailFilter).put(email);
+        }
+
+        @Test
+        @DisplayName("성공 - 가입 이메일 filter 에 없는 이메일은 중복 확인 쿼리 없이 저장")
+        void createUser_success_filterMiss() {
+            //given
+            given(registeredEmailFilter.mightContain(email))
+                    .willReturn(false);
+            given(encoder.encode(password))
+                    .willReturn(encryptedPassword);
+            given(userRepository.save(any(User.class)))
+                    .willReturn(mockUser);
+            given(mockUser.getEmail())
+                    .willReturn(email);
+
+            //when
+            UserCreateResponse response = userService.createUser(userCreateRequest);
+
+            //then
+            assertThat(response.getEmail()).isEqualTo(email);
+            verify(userRepository, never()).existsByEmail(any());
+            verify(registeredEmailFilter).put(email);
         }
 
         @Test
         @DisplayName("실패 - 사용자 명이 이미 존재하는 경우, 사용자 등록 시 중복 예외가 발생")
         void createUser_fail() {
             //given
+            given(registeredEmailFilter.mightContain(email))
+                    .willReturn(true);
             given(userRepository.existsByEmail(email))
                     .willReturn(true);
 
@@ -108,6 +140,47 @@ class UserServiceTest {
             //then
             assertThat(appException.getErrorCode()).isEqualTo(DUPLICATE_EMAIL);
             verify(userRepository, atLeastOnce()).existsByEmail(email);
+            verify(registeredEmailFilter, never()).put(any());
+        }
+
+        @Test
+        @DisplayName("실패 - 동시에 같은 이메일로 가입하여 저장 시 unique 제약 조건을 위반하면 중복 예외가 발생")
+        void createUser_fail_uniqueConstraint() {
+            //given
+            given(registeredEmailFilter.mightContain(email))
+                    .willReturn(false);
+            given(encoder.encode(password))
+                    .willReturn(encryptedPassword);
+            given(userRepository.save(any(User.class)))
+                    .willThrow(new DataIntegrityViolationException("duplicate",
+                            new ConstraintViolationException("Duplicate entry", new SQLException(), "user.uk_user_email")));
+
+            //when
+            AppException appException = assertThrows(AppException.class, () -> userService.createUser(userCreateRequest));
+
+            //then
+            assertThat(appException.getErrorCode()).isEqualTo(DUPLICATE_EMAIL);
+            verify(registeredEmailFilter, never()).put(any());
+        }
+
+        @Test
+        @DisplayName("실패 - 이메일 이외의 제약 조건 위반은 그대로 예외 발생")
+        void createUser_fail_otherConstraint() {
+            //given
+            DataIntegrityViolationException exception = new DataIntegrityViolationException("not null",
+                    new ConstraintViolationException("Column 'password' cannot be null", new SQLException(), null));
+            given(registeredEmailFilter.mightContain(email))
+                    .willReturn(false);
+            given(encoder.encode(password))
+                    .willReturn(encryptedPassword);
+            given(userRepository.save(any(User.class)))
+                    .willThrow(exception);
+
+            //when
+            DataIntegrityViolationException thrown = assertThrows(DataIntegrityViolationException.class, () -> userService.createUser(userCreateRequest));
+
+            //then
+            assertThat(thrown).isSameAs(exception);
         }
     }
 
@@ -118,8 +191,6 @@ class UserServiceTest {
         @Test
         @DisplayName("성공")
         public void loginUser_success() {
-            MockedStatic<JwtUtil> jwtUtil = mockStatic(JwtUtil.class);
-
             given(userRepository.findByEmail(userLoginRequest.getEmail()))
                     .willReturn(Optional.of(mockUser));
             given(mockUser.getPassword())
@@ -128,7 +199,7 @@ class UserServiceTest {
                     .willReturn(true);
             given(mockUser.getId())
                     .willReturn(userId);
-            given(JwtUtil.createToken(mockUser.getEmail(),secretKey))
+            given(jwtProvider.createToken(mockUser.getId(), mockUser.getEmail()))
                     .willReturn(jwt);
 
             UserLoginResponse response = userService.loginUser(userLoginRequest);
@@ -140,8 +211,6 @@ class UserServiceTest {
             verify(userRepository, atLeastOnce()).findByEmail(userLoginRequest.getEmail());
             verify(mockUser, atLeastOnce()).getPassword();
             verify(encoder, atLeastOnce()).matches(userLoginRequest.getPassword(), encryptedPassword);
-
-            jwtUtil.close();
         }
 
         @Test
@@ -158,6 +227,20 @@ class UserServiceTest {
 
         }
 
+        @Test
+        @DisplayName("실패 - 가입되지 않은 회원인지는 가입 이메일 filter 가 아닌 DB 조회로 확인")
+        public void loginUser_error_userNotFound_filterNotUsed() {
+            when(userRepository.findByEmail(userLoginRequest.getEmail()))
+                    .thenReturn(Optional.empty());
+
+            AppException appException = assertThrows(AppException.class, () -> userService.loginUser(userLoginRequest));
+
+            assertThat(appException.getErrorCode()).isEqualTo(USER_NOT_FOUND);
+
+            verify(registeredEmailFilter, never()).mightContain(any());
+            verify(encoder, never()).matches(any(), any());
+        }
+
         @Test
         @DisplayName("실패 - 비밀번호가 일치하지 않는 경우 예외 발생")
         public void loginUser_error_wrongPassword() {